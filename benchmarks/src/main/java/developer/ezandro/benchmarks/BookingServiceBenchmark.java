@@ -0,0 +1,102 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingRequest;
+import developer.ezandro.exceptions.RoomAlreadyBookedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class BookingServiceBenchmark {
+    private static final int GROUP_SIZE = 32;
+
+    /**
+     * Hands every thread its own sequence of free one-night slots, so that concurrent
+     * threads never compete for the same room and night.
+     */
+    @State(Scope.Thread)
+    public static class FreeSlots {
+        private int threadIndex;
+        private int threadCount;
+        private long nextSlot;
+
+        @Setup
+        public void setUp(ThreadParams threadParams) {
+            this.threadIndex = threadParams.getThreadIndex();
+            this.threadCount = threadParams.getThreadCount();
+        }
+
+        void book(HotelState hotel) {
+            BookingRequest request = this.nextRequest(hotel);
+            hotel.bookingService.createBooking(request.roomId(), request.guestId(), request.checkInDate(), request.checkOutDate());
+        }
+
+        BookingRequest nextRequest(HotelState hotel) {
+            long slot = this.nextSlot++ * this.threadCount + this.threadIndex;
+            int roomId = hotel.roomIds[(int) (slot % hotel.roomIds.length)];
+            LocalDate checkIn = hotel.firstFreeNight.plusDays(2 * (slot / hotel.roomIds.length));
+            return new BookingRequest(roomId, hotel.randomGuestId(), checkIn, checkIn.plusDays(1));
+        }
+    }
+
+    @Benchmark
+    public void createBookingWithoutConflict(HotelState hotel, FreeSlots freeSlots) {
+        freeSlots.book(hotel);
+    }
+
+    @Benchmark
+    public RuntimeException createBookingWithConflict(HotelState hotel) {
+        LocalDate checkIn = HotelState.FIRST_NIGHT;
+
+        try {
+            hotel.bookingService.createBooking(hotel.randomRoomId(), hotel.randomGuestId(), checkIn, checkIn.plusDays(1));
+            return null;
+        } catch (RoomAlreadyBookedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GROUP_SIZE)
+    public void createGroupOneByOne(HotelState hotel, FreeSlots freeSlots) {
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            freeSlots.book(hotel);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GROUP_SIZE)
+    public List<Booking> createGroupInOneBatch(HotelState hotel, FreeSlots freeSlots) {
+        List<BookingRequest> requests = new ArrayList<>(GROUP_SIZE);
+
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            requests.add(freeSlots.nextRequest(hotel));
+        }
+
+        return hotel.bookingService.createBookings(requests);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void createBookingConcurrently(HotelState hotel, FreeSlots freeSlots) {
+        freeSlots.book(hotel);
+    }
+}
@@ -0,0 +1,122 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+import module java.management;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.OffHeapBookingStore;
+import developer.ezandro.repositories.RoomRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The heap and off-heap booking stores holding {@code bookingCount} one-night bookings. Setup
+ * prints the heap the loaded bookings take after a full collection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class BookingStoreBenchmark {
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2030, 1, 1);
+
+    @Param({"1000000", "10000000"})
+    public int bookingCount;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    public String bookingStore;
+
+    private BookingRepository bookingRepository;
+    private int[] roomIds;
+    private int firstBookingId;
+    private int nights;
+
+    @Setup
+    public void setUp() {
+        long heapBefore = usedHeap();
+        RoomRepository roomRepository = new RoomRepository();
+        GuestRepository guestRepository = new GuestRepository();
+        this.bookingRepository = this.bookingStore.equals("OFF_HEAP")
+                ? new BookingRepository(new OffHeapBookingStore(roomRepository, guestRepository))
+                : new BookingRepository();
+
+        int roomCount = this.bookingCount / 1000;
+        Guest guest = new Guest("Ana Souza", "ana@example.com");
+        guestRepository.addGuest(guest);
+
+        this.roomIds = new int[roomCount];
+        Room[] rooms = new Room[roomCount];
+        for (int i = 0; i < roomCount; i++) {
+            rooms[i] = new Room("R" + i, 2, RoomType.DOUBLE);
+            roomRepository.addRoom(rooms[i]);
+            this.roomIds[i] = rooms[i].id();
+        }
+
+        for (int i = 0; i < this.bookingCount; i++) {
+            LocalDate checkIn = FIRST_NIGHT.plusDays(2L * (i / roomCount));
+            Booking booking = new Booking(rooms[i % roomCount], guest, checkIn, checkIn.plusDays(1));
+            this.bookingRepository.addBooking(booking);
+            this.firstBookingId = i == 0 ? booking.id() : this.firstBookingId;
+        }
+
+        this.nights = 2 * (this.bookingCount / roomCount);
+        IO.println(String.format("%n%s store: %,d bookings take %,d MB of heap",
+                this.bookingStore, this.bookingCount, (usedHeap() - heapBefore) >> 20));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.bookingRepository.close();
+    }
+
+    @Benchmark
+    public Booking findBookingById() {
+        return this.bookingRepository.findBookingById(this.firstBookingId + ThreadLocalRandom.current().nextInt(this.bookingCount));
+    }
+
+    @Benchmark
+    public boolean hasConflictingBooking() {
+        LocalDate checkIn = FIRST_NIGHT.plusDays(ThreadLocalRandom.current().nextInt(this.nights));
+        return this.bookingRepository.hasConflictingBooking(this.randomRoomId(), checkIn, checkIn.plusDays(1));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Booking> listRoomBookings() {
+        LocalDate from = FIRST_NIGHT.plusDays(ThreadLocalRandom.current().nextInt(this.nights));
+        return this.bookingRepository.streamBookings(0, new BookingFilter(this.randomRoomId(), null, from, from.plusDays(30))).toList();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long countAllBookings() {
+        return this.bookingRepository.streamBookings(0, BookingFilter.ALL).count();
+    }
+
+    private int randomRoomId() {
+        return this.roomIds[ThreadLocalRandom.current().nextInt(this.roomIds.length)];
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
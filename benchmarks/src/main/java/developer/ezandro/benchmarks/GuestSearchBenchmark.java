@@ -0,0 +1,93 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.repositories.GuestRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Guest name search over {@code guestCount} guests whose names are mostly shared, with a full,
+ * prefix or misspelt query per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class GuestSearchBenchmark {
+    private static final int RESULTS = 20;
+    private static final int QUERIES = 4096;
+    private static final String[] FIRST_NAMES = {
+            "Ana", "João", "Maria", "José", "Pedro", "Lucas", "Mariana", "Gabriel", "Juliana", "Rafael",
+            "Fernanda", "Bruno", "Camila", "Diego", "Larissa", "Thiago", "Beatriz", "Gustavo", "Letícia", "Felipe",
+            "John", "Michael", "Sarah", "Emily", "David", "Anna", "Marco", "Sofia", "Lucia", "Hans"
+    };
+    private static final String[] SYLLABLES = {
+            "ba", "ca", "da", "fe", "go", "li", "ma", "no", "pe", "ri",
+            "sa", "to", "ve", "lu", "mi", "ro", "zu", "qui", "ter", "son"
+    };
+
+    @Param({"100000", "1000000"})
+    public int guestCount;
+
+    @Param({"FULL_NAME", "PREFIXES", "TYPO"})
+    public String queryKind;
+
+    private GuestRepository guestRepository;
+    private String[] queries;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] names = new String[this.guestCount];
+        this.guestRepository = new GuestRepository();
+
+        for (int i = 0; i < this.guestCount; i++) {
+            String surname = SYLLABLES[random.nextInt(SYLLABLES.length)]
+                    + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                    + SYLLABLES[random.nextInt(SYLLABLES.length)];
+            names[i] = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + Character.toUpperCase(surname.charAt(0)) + surname.substring(1);
+            this.guestRepository.addGuest(new Guest(names[i], "guest" + i + "@example.com"));
+        }
+
+        this.queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            this.queries[i] = this.query(names[random.nextInt(names.length)]);
+        }
+    }
+
+    @Benchmark
+    public List<Guest> searchGuestsByName() {
+        String query = this.queries[ThreadLocalRandom.current().nextInt(QUERIES)];
+        return this.guestRepository.searchGuestsByName(query, RESULTS);
+    }
+
+    private String query(String name) {
+        String[] words = name.split(" ");
+
+        return switch (this.queryKind) {
+            case "FULL_NAME" -> name;
+            case "PREFIXES" -> words[0].substring(0, 3) + " " + words[1].substring(0, 3);
+            case "TYPO" -> {
+                char[] surname = words[1].toCharArray();
+                char swapped = surname[2];
+                surname[2] = surname[3];
+                surname[3] = swapped;
+                yield words[0] + " " + new String(surname);
+            }
+            default -> throw new IllegalArgumentException("Unknown query kind: " + this.queryKind);
+        };
+    }
+}
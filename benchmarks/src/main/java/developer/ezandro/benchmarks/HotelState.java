@@ -0,0 +1,95 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.metrics.ServiceMetrics;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+import developer.ezandro.services.BookingService;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A hotel with {@code bookingCount} one-night bookings, booked every other night from
+ * {@link #FIRST_NIGHT} up to {@link #firstFreeNight}.
+ */
+@State(Scope.Benchmark)
+public class HotelState {
+    static final LocalDate FIRST_NIGHT = LocalDate.of(2030, 1, 1);
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int bookingCount;
+
+    RoomRepository roomRepository;
+    GuestRepository guestRepository;
+    BookingRepository bookingRepository;
+    BookingService bookingService;
+
+    int[] roomIds;
+    String[] roomNumbers;
+    int[] guestIds;
+    int[] bookingIds;
+    LocalDate firstFreeNight;
+
+    @Setup
+    public void setUp() {
+        this.roomRepository = new RoomRepository();
+        this.guestRepository = new GuestRepository();
+        this.bookingRepository = new BookingRepository();
+        this.bookingService = new BookingService(this.bookingRepository, this.roomRepository, this.guestRepository, new ServiceMetrics());
+
+        int roomCount = Math.max(10, this.bookingCount / 1000);
+        int guestCount = Math.max(10, this.bookingCount / 10);
+        RoomType[] roomTypes = RoomType.values();
+
+        this.roomIds = new int[roomCount];
+        this.roomNumbers = new String[roomCount];
+        Room[] rooms = new Room[roomCount];
+        for (int i = 0; i < roomCount; i++) {
+            rooms[i] = new Room("R" + i, 1 + i % 4, roomTypes[i % roomTypes.length]);
+            this.roomRepository.addRoom(rooms[i]);
+            this.roomIds[i] = rooms[i].id();
+            this.roomNumbers[i] = rooms[i].number();
+        }
+
+        this.guestIds = new int[guestCount];
+        Guest[] guests = new Guest[guestCount];
+        for (int i = 0; i < guestCount; i++) {
+            guests[i] = new Guest("Guest " + i, "guest" + i + "@example.com");
+            this.guestRepository.addGuest(guests[i]);
+            this.guestIds[i] = guests[i].id();
+        }
+
+        this.bookingIds = new int[this.bookingCount];
+        for (int i = 0; i < this.bookingCount; i++) {
+            LocalDate checkIn = FIRST_NIGHT.plusDays(2L * (i / roomCount));
+            Booking booking = new Booking(rooms[i % roomCount], guests[i % guestCount], checkIn, checkIn.plusDays(1));
+            this.bookingRepository.addBooking(booking);
+            this.bookingIds[i] = booking.id();
+        }
+
+        this.firstFreeNight = FIRST_NIGHT.plusDays(2L * (this.bookingCount / roomCount + 1));
+    }
+
+    int randomRoomId() {
+        return this.roomIds[ThreadLocalRandom.current().nextInt(this.roomIds.length)];
+    }
+
+    String randomRoomNumber() {
+        return this.roomNumbers[ThreadLocalRandom.current().nextInt(this.roomNumbers.length)];
+    }
+
+    int randomGuestId() {
+        return this.guestIds[ThreadLocalRandom.current().nextInt(this.guestIds.length)];
+    }
+
+    int randomBookingId() {
+        return this.bookingIds[ThreadLocalRandom.current().nextInt(this.bookingIds.length)];
+    }
+}
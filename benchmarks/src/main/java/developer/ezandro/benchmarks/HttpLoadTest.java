@@ -0,0 +1,138 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+
+/**
+ * Load test for the HTTP API over keep-alive connections, one virtual thread each:
+ * {@code HttpLoadTest <host> <port> <connections> <seconds> <path>}.
+ */
+public final class HttpLoadTest {
+    private static final int LATENCY_BUCKETS = 64;
+
+    private HttpLoadTest() {
+    }
+
+    static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 30);
+        String path = args.length > 4 ? args[4] : "/rooms/1";
+
+        byte[] request = ("GET " + path + " HTTP/1.1\r\nHost: " + host + "\r\nConnection: keep-alive\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        CountDownLatch connected = new CountDownLatch(connections);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder failedConnections = new LongAdder();
+        LongAdder completedRequests = new LongAdder();
+        LongAdder failedRequests = new LongAdder();
+        AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKETS);
+        long[] deadline = new long[1];
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                clients.submit(() -> {
+                    try (Socket socket = new Socket(host, port)) {
+                        connected.countDown();
+                        start.await();
+
+                        OutputStream out = socket.getOutputStream();
+                        InputStream in = new BufferedInputStream(socket.getInputStream());
+                        long[] localHistogram = new long[LATENCY_BUCKETS];
+
+                        while (System.nanoTime() < deadline[0]) {
+                            long sentAt = System.nanoTime();
+                            out.write(request);
+                            out.flush();
+
+                            if (readResponse(in) / 100 == 2) {
+                                completedRequests.increment();
+                            } else {
+                                failedRequests.increment();
+                            }
+
+                            localHistogram[bucketOf(System.nanoTime() - sentAt)]++;
+                        }
+
+                        for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+                            latencyHistogram.addAndGet(bucket, localHistogram[bucket]);
+                        }
+                    } catch (IOException _) {
+                        failedConnections.increment();
+                        connected.countDown();
+                    } catch (InterruptedException _) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                });
+            }
+
+            connected.await();
+            IO.println(String.format("Connections established: %d of %d", connections - failedConnections.sum(), connections));
+
+            deadline[0] = System.nanoTime() + duration.toNanos();
+            start.countDown();
+        }
+
+        long requests = completedRequests.sum();
+        IO.println(String.format("Requests: %d ok, %d failed, %.0f req/s",
+                requests, failedRequests.sum(), requests / (double) duration.toSeconds()));
+        IO.println(String.format("Latency p50 <= %s, p99 <= %s, p99.9 <= %s",
+                percentile(latencyHistogram, 0.50), percentile(latencyHistogram, 0.99), percentile(latencyHistogram, 0.999)));
+    }
+
+    /**
+     * Reads one response and returns its status code. Only {@code Content-Length} framing is
+     * supported, which is what the API uses.
+     */
+    private static int readResponse(InputStream in) throws IOException {
+        String statusLine = readLine(in);
+        int contentLength = 0;
+
+        for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+            if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                contentLength = Integer.parseInt(header.substring(15).strip());
+            }
+        }
+
+        in.skipNBytes(contentLength);
+        return Integer.parseInt(statusLine.substring(9, 12));
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+
+        for (int character = in.read(); character != '\n'; character = in.read()) {
+            if (character == -1) {
+                throw new EOFException("Connection closed by server.");
+            }
+            if (character != '\r') {
+                line.append((char) character);
+            }
+        }
+
+        return line.toString();
+    }
+
+    private static int bucketOf(long nanos) {
+        return Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(1, nanos)));
+    }
+
+    private static String percentile(AtomicLongArray histogram, double quantile) {
+        long total = 0;
+        for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+            total += histogram.get(bucket);
+        }
+
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+            seen += histogram.get(bucket);
+            if (seen >= rank && seen > 0) {
+                return Duration.ofNanos(1L << bucket).toString();
+            }
+        }
+
+        return "n/a";
+    }
+}
@@ -0,0 +1,108 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import developer.ezandro.api.Json;
+import developer.ezandro.api.JsonReader;
+import developer.ezandro.api.JsonWriter;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingRequest;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The API's JSON codec against Jackson on the payloads the API serves; run with {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+    private static final int LIST_SIZE = 100;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(16 * 1024);
+    private int bytesWritten;
+    private final JsonWriter writer = new JsonWriter(
+            ByteBuffer.allocate(16 * 1024),
+            (chunk, _) -> this.bytesWritten += chunk.remaining()
+    );
+
+    private Booking booking;
+    private List<Booking> bookings;
+    private byte[] bookingRequest;
+    private ByteArrayInputStream bookingRequestStream;
+
+    @Setup
+    public void setUp() {
+        Room room = new Room("101", 2, RoomType.DOUBLE);
+        Guest guest = new Guest("Ana Souza", "ana.souza@example.com");
+        LocalDate checkIn = LocalDate.of(2030, 1, 1);
+
+        this.booking = new Booking(room, guest, checkIn, checkIn.plusDays(3));
+        this.bookings = IntStream.range(0, LIST_SIZE)
+                .mapToObj(i -> new Booking(room, guest, checkIn.plusDays(i), checkIn.plusDays(i + 1)))
+                .toList();
+        this.bookingRequest = """
+                {"roomId":1,"guestId":42,"checkInDate":"2030-01-01","checkOutDate":"2030-01-04"}"""
+                .getBytes(StandardCharsets.UTF_8);
+        this.bookingRequestStream = new ByteArrayInputStream(this.bookingRequest);
+    }
+
+    @Benchmark
+    public int encodeBooking() {
+        this.bytesWritten = 0;
+        Json.writeBooking(this.writer, this.booking);
+        this.writer.finish();
+        return this.bytesWritten;
+    }
+
+    @Benchmark
+    public byte[] encodeBookingWithJackson() throws JsonProcessingException {
+        return this.mapper.writeValueAsBytes(this.booking);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int encodeBookingList() {
+        this.bytesWritten = 0;
+        Json.writeArray(this.writer, this.bookings, Json::writeBooking);
+        this.writer.finish();
+        return this.bytesWritten;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] encodeBookingListWithJackson() throws JsonProcessingException {
+        return this.mapper.writeValueAsBytes(this.bookings);
+    }
+
+    @Benchmark
+    public BookingRequest decodeBookingRequest() {
+        this.bookingRequestStream.reset();
+        return Json.readBookingRequest(new JsonReader(this.bookingRequestStream, this.readBuffer));
+    }
+
+    @Benchmark
+    public BookingRequest decodeBookingRequestWithJackson() throws IOException {
+        return this.mapper.readValue(this.bookingRequest, BookingRequest.class);
+    }
+}
@@ -0,0 +1,52 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+import developer.ezandro.metrics.LatencyHistogram;
+import developer.ezandro.metrics.OperationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of timing an operation, alone and with every core recording into one histogram.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final OperationMetrics operation = new OperationMetrics("benchmark");
+
+    @Benchmark
+    public void record() {
+        this.histogram.record(ThreadLocalRandom.current().nextLong(100_000));
+    }
+
+    @Benchmark
+    public void timedOperation() {
+        long start = System.nanoTime();
+        this.operation.completed(start);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void recordContended() {
+        this.record();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void timedOperationContended() {
+        this.timedOperation();
+    }
+}
@@ -0,0 +1,52 @@
+package developer.ezandro.benchmarks;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class RepositoryBenchmark {
+    @Benchmark
+    public Booking findBookingById(HotelState hotel) {
+        return hotel.bookingRepository.findBookingById(hotel.randomBookingId());
+    }
+
+    @Benchmark
+    public Room findRoomById(HotelState hotel) {
+        return hotel.roomRepository.findRoomById(hotel.randomRoomId());
+    }
+
+    @Benchmark
+    public Guest findGuestById(HotelState hotel) {
+        return hotel.guestRepository.findGuestById(hotel.randomGuestId());
+    }
+
+    @Benchmark
+    public Optional<Room> findRoomByNumber(HotelState hotel) {
+        return hotel.roomRepository.findRoomByNumber(hotel.randomRoomNumber());
+    }
+
+    @Benchmark
+    public boolean hasConflictingBooking(HotelState hotel) {
+        LocalDate checkIn = HotelState.FIRST_NIGHT.plusDays(ThreadLocalRandom.current().nextInt(1000));
+        return hotel.bookingRepository.hasConflictingBooking(hotel.randomRoomId(), checkIn, checkIn.plusDays(1));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Booking> getAllBookings(HotelState hotel) {
+        return hotel.bookingRepository.getAllBookings();
+    }
+}
@@ -0,0 +1,34 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.services.AnalyticsService;
+import developer.ezandro.services.PeriodReport;
+import developer.ezandro.services.ReportPeriod;
+
+record AnalyticsHandler(AnalyticsService analyticsService) implements HttpHandler {
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        HttpExchanges.respond(exchange, this::route);
+    }
+
+    private JsonResponse route(HttpExchange exchange) {
+        if (!HttpExchanges.subPath(exchange).isEmpty()) {
+            return HttpExchanges.notFound(exchange);
+        }
+
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            return HttpExchanges.methodNotAllowed(exchange);
+        }
+
+        Map<String, String> query = HttpExchanges.queryParameters(exchange);
+        LocalDate from = LocalDate.parse(HttpExchanges.required(query, "from"));
+        LocalDate to = LocalDate.parse(HttpExchanges.required(query, "to"));
+        ReportPeriod period = query.containsKey("period")
+                ? ReportPeriod.valueOf(query.get("period").toUpperCase(Locale.ROOT))
+                : ReportPeriod.MONTH;
+
+        List<PeriodReport> reports = this.analyticsService.report(from, to, period);
+        return JsonResponse.ok(writer -> Json.writeArray(writer, reports, Json::writePeriodReport));
+    }
+}
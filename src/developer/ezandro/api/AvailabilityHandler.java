@@ -0,0 +1,49 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.entities.DailyCounts;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.services.AvailabilityService;
+
+record AvailabilityHandler(AvailabilityService availabilityService) implements HttpHandler {
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        HttpExchanges.respond(exchange, this::route);
+    }
+
+    private JsonResponse route(HttpExchange exchange) {
+        String subPath = HttpExchanges.subPath(exchange);
+
+        if (!subPath.isEmpty() && !"daily".equals(subPath)) {
+            return HttpExchanges.notFound(exchange);
+        }
+
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            return HttpExchanges.methodNotAllowed(exchange);
+        }
+
+        return subPath.isEmpty() ? this.findAvailableRooms(exchange) : this.countDays(exchange);
+    }
+
+    private JsonResponse findAvailableRooms(HttpExchange exchange) {
+        Map<String, String> query = HttpExchanges.queryParameters(exchange);
+        RoomType roomType = RoomType.valueOf(HttpExchanges.required(query, "roomType").toUpperCase(Locale.ROOT));
+        int minCapacity = query.containsKey("minCapacity") ? HttpExchanges.requiredInt(query, "minCapacity") : 1;
+        LocalDate checkIn = LocalDate.parse(HttpExchanges.required(query, "checkInDate"));
+        LocalDate checkOut = LocalDate.parse(HttpExchanges.required(query, "checkOutDate"));
+
+        List<Room> rooms = this.availabilityService.findAvailableRooms(roomType, minCapacity, checkIn, checkOut);
+        return JsonResponse.ok(writer -> Json.writeArray(writer, rooms, Json::writeRoom));
+    }
+
+    private JsonResponse countDays(HttpExchange exchange) {
+        Map<String, String> query = HttpExchanges.queryParameters(exchange);
+        LocalDate from = LocalDate.parse(HttpExchanges.required(query, "from"));
+        LocalDate to = LocalDate.parse(HttpExchanges.required(query, "to"));
+
+        List<DailyCounts> days = this.availabilityService.countDays(from, to);
+        return JsonResponse.ok(writer -> Json.writeArray(writer, days, Json::writeDailyCounts));
+    }
+}
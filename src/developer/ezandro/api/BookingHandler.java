@@ -0,0 +1,138 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.BookingRequest;
+import developer.ezandro.services.BookingArchiveService;
+import developer.ezandro.services.BookingService;
+
+record BookingHandler(BookingService bookingService, BookingArchiveService bookingArchiveService) implements HttpHandler {
+    private static final String BATCH = "batch";
+    private static final String ARCHIVE = "archive";
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        HttpExchanges.respond(exchange, this::route);
+    }
+
+    private JsonResponse route(HttpExchange exchange) throws IOException {
+        String subPath = HttpExchanges.subPath(exchange);
+
+        return switch (exchange.getRequestMethod()) {
+            case "GET" -> switch (subPath) {
+                case "" -> this.getBookings(exchange);
+                case ARCHIVE -> this.getArchivedBookings(exchange);
+                default -> this.getBooking(HttpExchanges.parseId(subPath));
+            };
+            case "POST" -> switch (subPath) {
+                case "" -> this.createBooking(exchange);
+                case BATCH -> this.createBookings(exchange);
+                default -> HttpExchanges.notFound(exchange);
+            };
+            case "PATCH" -> subPath.isEmpty()
+                    ? HttpExchanges.methodNotAllowed(exchange)
+                    : this.rescheduleBooking(exchange, HttpExchanges.parseId(subPath));
+            case "DELETE" -> subPath.isEmpty()
+                    ? HttpExchanges.methodNotAllowed(exchange)
+                    : this.cancelBooking(HttpExchanges.parseId(subPath));
+            default -> HttpExchanges.methodNotAllowed(exchange);
+        };
+    }
+
+    private JsonResponse getBookings(HttpExchange exchange) {
+        Map<String, String> query = HttpExchanges.queryParameters(exchange);
+        BookingFilter filter = new BookingFilter(
+                HttpExchanges.optionalInt(query, "roomId"),
+                HttpExchanges.optionalInt(query, "guestId"),
+                HttpExchanges.optionalDate(query, "from"),
+                HttpExchanges.optionalDate(query, "to")
+        );
+        Stream<Booking> bookings = HttpExchanges.paginate(query, afterId -> this.bookingService.streamBookings(filter, afterId));
+        return JsonResponse.ok(writer -> Json.writeArray(writer, bookings::iterator, Json::writeBooking));
+    }
+
+    private JsonResponse getArchivedBookings(HttpExchange exchange) {
+        Map<String, String> query = HttpExchanges.queryParameters(exchange);
+        YearMonth checkOutMonth = YearMonth.parse(HttpExchanges.required(query, "month"));
+        BookingFilter filter = new BookingFilter(
+                HttpExchanges.optionalInt(query, "roomId"),
+                HttpExchanges.optionalInt(query, "guestId"),
+                null,
+                null
+        );
+        Stream<Booking> bookings = HttpExchanges.paginate(
+                query,
+                afterId -> this.bookingArchiveService.streamArchivedBookings(checkOutMonth, filter, afterId)
+        );
+        return JsonResponse.ok(writer -> Json.writeArray(writer, bookings::iterator, Json::writeBooking));
+    }
+
+    private JsonResponse getBooking(int id) {
+        Booking booking = this.bookingService.findBookingById(id);
+        return JsonResponse.ok(writer -> Json.writeBooking(writer, booking));
+    }
+
+    private JsonResponse createBooking(HttpExchange exchange) throws IOException {
+        BookingRequest request = HttpExchanges.readJson(exchange, Json::readBookingRequest);
+        Booking booking = this.bookingService.createBooking(
+                request.roomId(),
+                request.guestId(),
+                request.checkInDate(),
+                request.checkOutDate()
+        );
+        return JsonResponse.created(writer -> Json.writeBooking(writer, booking));
+    }
+
+    private JsonResponse createBookings(HttpExchange exchange) throws IOException {
+        List<BookingRequest> requests = HttpExchanges.readJson(exchange, BookingHandler::readBookingRequests);
+        List<Booking> bookings = this.bookingService.createBookings(requests);
+        return JsonResponse.created(writer -> Json.writeArray(writer, bookings, Json::writeBooking));
+    }
+
+    private JsonResponse rescheduleBooking(HttpExchange exchange, int id) throws IOException {
+        NewStay request = HttpExchanges.readJson(exchange, NewStay::read);
+        Booking booking = this.bookingService.rescheduleBooking(id, request.checkInDate(), request.checkOutDate());
+        return JsonResponse.ok(writer -> Json.writeBooking(writer, booking));
+    }
+
+    private JsonResponse cancelBooking(int id) {
+        Booking booking = this.bookingService.cancelBooking(id);
+        return JsonResponse.ok(writer -> Json.writeBooking(writer, booking));
+    }
+
+    private static List<BookingRequest> readBookingRequests(JsonReader reader) {
+        List<BookingRequest> requests = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.nextElement()) {
+            requests.add(Json.readBookingRequest(reader));
+        }
+
+        return requests;
+    }
+
+    private record NewStay(LocalDate checkInDate, LocalDate checkOutDate) {
+        private static NewStay read(JsonReader reader) {
+            LocalDate checkInDate = null;
+            LocalDate checkOutDate = null;
+
+            reader.beginObject();
+            while (reader.nextField()) {
+                if (reader.fieldIs("checkInDate")) {
+                    checkInDate = reader.readDate();
+                } else if (reader.fieldIs("checkOutDate")) {
+                    checkOutDate = reader.readDate();
+                } else {
+                    reader.skipValue();
+                }
+            }
+
+            return new NewStay(
+                    HttpExchanges.required(checkInDate, "checkInDate"),
+                    HttpExchanges.required(checkOutDate, "checkOutDate")
+            );
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.services.GuestService;
+
+record GuestHandler(GuestService guestService) implements HttpHandler {
+    private static final int DEFAULT_SEARCH_RESULTS = 20;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        HttpExchanges.respond(exchange, this::route);
+    }
+
+    private JsonResponse route(HttpExchange exchange) throws IOException {
+        String subPath = HttpExchanges.subPath(exchange);
+
+        return switch (exchange.getRequestMethod()) {
+            case "GET" -> subPath.isEmpty()
+                    ? this.getGuests(exchange)
+                    : this.getGuest(HttpExchanges.parseId(subPath));
+            case "POST" -> subPath.isEmpty()
+                    ? this.addGuest(exchange)
+                    : HttpExchanges.methodNotAllowed(exchange);
+            default -> HttpExchanges.methodNotAllowed(exchange);
+        };
+    }
+
+    private JsonResponse getGuests(HttpExchange exchange) {
+        Map<String, String> query = HttpExchanges.queryParameters(exchange);
+
+        if (query.containsKey("name")) {
+            return this.searchGuests(query);
+        }
+
+        Stream<Guest> guests = HttpExchanges.paginate(query, this.guestService::streamGuests);
+        return JsonResponse.ok(writer -> Json.writeArray(writer, guests::iterator, Json::writeGuest));
+    }
+
+    private JsonResponse searchGuests(Map<String, String> query) {
+        Integer limit = HttpExchanges.optionalInt(query, "limit");
+
+        if (Objects.nonNull(limit) && (limit < 1 || limit > MAX_SEARCH_RESULTS)) {
+            throw new InvalidRequestException("'limit' must be between 1 and " + MAX_SEARCH_RESULTS + ".");
+        }
+
+        List<Guest> guests = this.guestService.searchGuestsByName(
+                HttpExchanges.required(query, "name"),
+                Objects.isNull(limit) ? DEFAULT_SEARCH_RESULTS : limit
+        );
+        return JsonResponse.ok(writer -> Json.writeArray(writer, guests, Json::writeGuest));
+    }
+
+    private JsonResponse getGuest(int id) {
+        Guest guest = this.guestService.findGuestById(id);
+        return JsonResponse.ok(writer -> Json.writeGuest(writer, guest));
+    }
+
+    private JsonResponse addGuest(HttpExchange exchange) throws IOException {
+        NewGuest request = HttpExchanges.readJson(exchange, NewGuest::read);
+
+        if (!request.email().matches(".+@.+")) {
+            throw new InvalidRequestException("Email must have content before and after '@'.");
+        }
+
+        Optional<Guest> existingGuest = this.guestService.findGuestByEmail(request.email());
+        if (existingGuest.isPresent()) {
+            return JsonResponse.ok(writer -> Json.writeGuest(writer, existingGuest.get()));
+        }
+
+        Guest guest = this.guestService.addGuest(request.name(), request.email());
+        return JsonResponse.created(writer -> Json.writeGuest(writer, guest));
+    }
+
+    private record NewGuest(String name, String email) {
+        private static NewGuest read(JsonReader reader) {
+            String name = null;
+            String email = null;
+
+            reader.beginObject();
+            while (reader.nextField()) {
+                if (reader.fieldIs("name")) {
+                    name = reader.readString();
+                } else if (reader.fieldIs("email")) {
+                    email = reader.readString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+
+            return new NewGuest(HttpExchanges.required(name, "name"), HttpExchanges.required(email, "email"));
+        }
+    }
+}
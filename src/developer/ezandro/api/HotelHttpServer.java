@@ -0,0 +1,74 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.services.PropertyRouter;
+import developer.ezandro.services.PropertyServices;
+import developer.ezandro.services.ReplicationService;
+
+/**
+ * JSON API over the JDK's built-in HTTP server, one virtual thread per request. Each property
+ * is served under {@code /properties/{code}}, and the default property also without the prefix.
+ */
+public class HotelHttpServer implements AutoCloseable {
+    private static final int BACKLOG = 4096;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final String PROPERTIES = "/properties";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public HotelHttpServer(int port, PropertyRouter propertyRouter) {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (PropertyServices property : propertyRouter.properties()) {
+            this.createContexts(PROPERTIES + "/" + property.property(), property);
+        }
+
+        this.createContexts("", propertyRouter.defaultProperty());
+        this.server.createContext(PROPERTIES, new PropertyHandler(propertyRouter));
+        this.server.createContext("/metrics", new MetricsHandler(propertyRouter));
+        this.server.setExecutor(this.executor);
+    }
+
+    public void start() {
+        this.server.start();
+    }
+
+    public int port() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * A replica serves only the lookup and availability routes, behind a {@link ReplicaGuard}.
+     */
+    private void createContexts(String prefix, PropertyServices property) {
+        ReplicationService replicationService = property.replicationService();
+        Map<String, HttpHandler> handlers = new LinkedHashMap<>();
+
+        handlers.put("/rooms", new RoomHandler(property.roomService()));
+        handlers.put("/guests", new GuestHandler(property.guestService()));
+        handlers.put("/bookings", new BookingHandler(property.bookingService(), property.bookingArchiveService()));
+        handlers.put("/availability", new AvailabilityHandler(property.availabilityService()));
+
+        if (replicationService.isReplica()) {
+            handlers.replaceAll((_, handler) -> new ReplicaGuard(handler, replicationService.follower()));
+        } else {
+            handlers.put("/analytics", new AnalyticsHandler(property.analyticsService()));
+        }
+
+        handlers.forEach((path, handler) -> this.server.createContext(
+                prefix + path, new PropertyDispatcher(property.property(), handler, property.requestPermits())));
+        this.server.createContext(prefix + "/replication", new ReplicationHandler(replicationService));
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(STOP_DELAY_SECONDS);
+        this.executor.shutdown();
+    }
+}
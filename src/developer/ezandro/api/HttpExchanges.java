@@ -0,0 +1,217 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.exceptions.ArchivedPeriodException;
+import developer.ezandro.exceptions.BookingNotFoundException;
+import developer.ezandro.exceptions.GuestNotFoundException;
+import developer.ezandro.exceptions.InvalidBookingDateRangeException;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.exceptions.PropertyNotFoundException;
+import developer.ezandro.exceptions.RoomAlreadyBookedException;
+import developer.ezandro.exceptions.RoomAlreadyExistsException;
+import developer.ezandro.exceptions.RoomNotFoundException;
+import developer.ezandro.exceptions.RoomTypeNotFoundException;
+
+/**
+ * Request parsing, response writing and the mapping from domain exceptions to HTTP
+ * status codes shared by all handlers. Any other exception is logged and answered with 500.
+ */
+final class HttpExchanges {
+    private static final System.Logger LOGGER = System.getLogger(HttpExchanges.class.getName());
+    private static final int BUFFER_BYTES = 16 * 1024;
+    private static final BlockingQueue<ByteBuffer> BUFFERS = new ArrayBlockingQueue<>(256);
+
+    private HttpExchanges() {
+    }
+
+    @FunctionalInterface
+    interface Route {
+        JsonResponse handle(HttpExchange exchange) throws IOException;
+    }
+
+    static void respond(HttpExchange exchange, Route route) throws IOException {
+        JsonResponse response;
+
+        try {
+            response = route.handle(exchange);
+        } catch (RoomNotFoundException | GuestNotFoundException | BookingNotFoundException | PropertyNotFoundException e) {
+            response = JsonResponse.error(404, e.getMessage());
+        } catch (RoomAlreadyExistsException | RoomAlreadyBookedException e) {
+            response = JsonResponse.error(409, e.getMessage());
+        } catch (InvalidRequestException | InvalidBookingDateRangeException | ArchivedPeriodException
+                 | RoomTypeNotFoundException | IllegalArgumentException | DateTimeParseException e) {
+            response = JsonResponse.error(400, e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.ERROR,
+                    "Could not handle " + exchange.getRequestMethod() + " " + exchange.getRequestURI() + ".", e);
+            response = JsonResponse.error(500, "Internal server error.");
+        }
+
+        send(exchange, response);
+    }
+
+    static JsonResponse notFound(HttpExchange exchange) {
+        return JsonResponse.error(404, "No resource at " + exchange.getRequestURI().getPath() + ".");
+    }
+
+    static JsonResponse methodNotAllowed(HttpExchange exchange) {
+        return JsonResponse.error(405, "Method " + exchange.getRequestMethod() + " is not allowed.");
+    }
+
+    /**
+     * Returns the part of the request path after the handler's context, without the leading
+     * slash; empty for the collection itself.
+     */
+    static String subPath(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        String subPath = path.substring(exchange.getHttpContext().getPath().length());
+        return subPath.startsWith("/") ? subPath.substring(1) : subPath;
+    }
+
+    static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException _) {
+            throw new InvalidRequestException("'" + value + "' is not a valid ID.");
+        }
+    }
+
+    /**
+     * Decodes the request body straight from the stream with a pooled buffer.
+     */
+    static <T> T readJson(HttpExchange exchange, Function<JsonReader, T> decoder) throws IOException {
+        ByteBuffer buffer = acquireBuffer();
+
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonReader reader = new JsonReader(body, buffer);
+            T value = decoder.apply(reader);
+            reader.expectEnd();
+            return value;
+        } finally {
+            BUFFERS.offer(buffer);
+        }
+    }
+
+    static Map<String, String> queryParameters(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        Map<String, String> parameters = new HashMap<>();
+
+        if (Objects.isNull(query) || query.isEmpty()) {
+            return parameters;
+        }
+
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return parameters;
+    }
+
+    static String required(Map<String, String> values, String name) {
+        return required(values.get(name), name);
+    }
+
+    static String required(String value, String name) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            throw new InvalidRequestException("'" + name + "' is required.");
+        }
+
+        return value.strip();
+    }
+
+    static <T> T required(T value, String name) {
+        if (Objects.isNull(value)) {
+            throw new InvalidRequestException("'" + name + "' is required.");
+        }
+
+        return value;
+    }
+
+    static Integer optionalInt(Map<String, String> values, String name) {
+        return values.containsKey(name) ? requiredInt(values, name) : null;
+    }
+
+    static LocalDate optionalDate(Map<String, String> values, String name) {
+        return values.containsKey(name) ? LocalDate.parse(required(values, name)) : null;
+    }
+
+    /**
+     * Applies the {@code after} and {@code limit} keyset-pagination parameters to an
+     * ID-ordered listing.
+     */
+    static <T> Stream<T> paginate(Map<String, String> query, IntFunction<Stream<T>> listing) {
+        Integer afterId = optionalInt(query, "after");
+        Integer limit = optionalInt(query, "limit");
+        Stream<T> stream = listing.apply(Objects.isNull(afterId) ? 0 : afterId);
+
+        if (Objects.isNull(limit)) {
+            return stream;
+        }
+
+        if (limit < 1) {
+            throw new InvalidRequestException("'limit' must be at least 1.");
+        }
+
+        return stream.limit(limit);
+    }
+
+    static int requiredInt(Map<String, String> values, String name) {
+        String value = required(values, name);
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException _) {
+            throw new InvalidRequestException("'" + name + "' must be a valid integer.");
+        }
+    }
+
+    /**
+     * Encodes the response into a pooled buffer. A body that fits in the buffer is sent with
+     * a Content-Length; a larger one is streamed in chunks as the buffer fills.
+     */
+    private static void send(HttpExchange exchange, JsonResponse response) throws IOException {
+        ByteBuffer buffer = acquireBuffer();
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+
+        try {
+            JsonWriter writer = new JsonWriter(buffer, new ResponseSink(exchange, response.status()));
+            response.body().accept(writer);
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            BUFFERS.offer(buffer);
+            exchange.close();
+        }
+    }
+
+    private static ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = BUFFERS.poll();
+        return Objects.nonNull(buffer) ? buffer : ByteBuffer.allocate(BUFFER_BYTES);
+    }
+
+    private static final class ResponseSink implements JsonWriter.Sink {
+        private final HttpExchange exchange;
+        private final int status;
+        private boolean headersSent;
+
+        private ResponseSink(HttpExchange exchange, int status) {
+            this.exchange = exchange;
+            this.status = status;
+        }
+
+        @Override
+        public void write(ByteBuffer chunk, boolean last) throws IOException {
+            if (!this.headersSent) {
+                this.exchange.sendResponseHeaders(this.status, last ? chunk.remaining() : 0);
+                this.headersSent = true;
+            }
+
+            this.exchange.getResponseBody().write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+        }
+    }
+}
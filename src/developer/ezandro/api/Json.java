@@ -0,0 +1,239 @@
+package developer.ezandro.api;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingRequest;
+import developer.ezandro.entities.DailyCounts;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.replication.PrimaryStatus;
+import developer.ezandro.replication.ReplicaStatus;
+import developer.ezandro.services.PeriodReport;
+
+/**
+ * Reflection-free JSON encoders for the entities and decoders for the request bodies.
+ */
+public final class Json {
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] NUMBER = ascii(",\"number\":");
+    private static final byte[] CAPACITY = ascii(",\"capacity\":");
+    private static final byte[] ROOM_TYPE = ascii(",\"roomType\":");
+    private static final byte[] NAME = ascii(",\"name\":");
+    private static final byte[] EMAIL = ascii(",\"email\":");
+    private static final byte[] ROOM = ascii(",\"room\":");
+    private static final byte[] GUEST = ascii(",\"guest\":");
+    private static final byte[] CHECK_IN_DATE = ascii(",\"checkInDate\":");
+    private static final byte[] CHECK_OUT_DATE = ascii(",\"checkOutDate\":");
+    private static final byte[] ERROR = ascii("{\"error\":");
+    private static final byte[] START = ascii("{\"start\":");
+    private static final byte[] END = ascii(",\"end\":");
+    private static final byte[] TOTAL = ascii(",\"total\":");
+    private static final byte[] ROOM_TYPE_METRICS = ascii(",\"roomTypes\":{");
+    private static final byte[] AVAILABLE_ROOM_NIGHTS = ascii("{\"availableRoomNights\":");
+    private static final byte[] SOLD_ROOM_NIGHTS = ascii(",\"soldRoomNights\":");
+    private static final byte[] OCCUPANCY_PERCENT = ascii(",\"occupancyPercent\":");
+    private static final byte[] REVENUE = ascii(",\"revenue\":");
+    private static final byte[] AVERAGE_DAILY_RATE = ascii(",\"averageDailyRate\":");
+    private static final byte[] REV_PAR = ascii(",\"revPar\":");
+    private static final byte[] DATE = ascii("{\"date\":");
+    private static final byte[] ROOMS_SOLD = ascii("{\"roomsSold\":");
+    private static final byte[] ARRIVALS = ascii(",\"arrivals\":");
+    private static final byte[] DEPARTURES = ascii(",\"departures\":");
+    private static final byte[] ROLE_PRIMARY = ascii("{\"role\":\"primary\"");
+    private static final byte[] ROLE_REPLICA = ascii("{\"role\":\"replica\"");
+    private static final byte[] ROLE_STANDALONE = ascii("{\"role\":\"standalone\"}");
+    private static final byte[] POSITION = ascii(",\"position\":");
+    private static final byte[] REPLICAS = ascii(",\"replicas\":");
+    private static final byte[] ADDRESS = ascii("{\"address\":");
+    private static final byte[] SENT_POSITION = ascii(",\"sentPosition\":");
+    private static final byte[] CONNECTED = ascii(",\"connected\":");
+    private static final byte[] RESYNCING = ascii(",\"resyncing\":");
+    private static final byte[] APPLIED_POSITION = ascii(",\"appliedPosition\":");
+    private static final byte[] PRIMARY_POSITION = ascii(",\"primaryPosition\":");
+    private static final byte[] LAG_BYTES = ascii(",\"lagBytes\":");
+    private static final byte[] LAG_MILLIS = ascii(",\"lagMillis\":");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[][] ROOM_TYPES = Arrays.stream(RoomType.values())
+            .map(roomType -> ascii("\"" + roomType.name() + "\""))
+            .toArray(byte[][]::new);
+
+    private Json() {
+    }
+
+    public static void writeRoom(JsonWriter writer, Room room) {
+        writer.writeAscii(ID).writeInt(room.id())
+                .writeAscii(NUMBER).writeString(room.number())
+                .writeAscii(CAPACITY).writeInt(room.capacity())
+                .writeAscii(ROOM_TYPE).writeAscii(ROOM_TYPES[room.roomType().ordinal()])
+                .writeByte('}');
+    }
+
+    public static void writeGuest(JsonWriter writer, Guest guest) {
+        writer.writeAscii(ID).writeInt(guest.id())
+                .writeAscii(NAME).writeString(guest.name())
+                .writeAscii(EMAIL).writeString(guest.email())
+                .writeByte('}');
+    }
+
+    public static void writeBooking(JsonWriter writer, Booking booking) {
+        writer.writeAscii(ID).writeInt(booking.id()).writeAscii(ROOM);
+        writeRoom(writer, booking.room());
+        writer.writeAscii(GUEST);
+        writeGuest(writer, booking.guest());
+        writer.writeAscii(CHECK_IN_DATE).writeDate(booking.checkInDate())
+                .writeAscii(CHECK_OUT_DATE).writeDate(booking.checkOutDate())
+                .writeByte('}');
+    }
+
+    public static <T> void writeArray(JsonWriter writer, Iterable<T> values, BiConsumer<JsonWriter, T> encoder) {
+        writer.writeByte('[');
+        boolean first = true;
+
+        for (T value : values) {
+            if (!first) {
+                writer.writeByte(',');
+            }
+            encoder.accept(writer, value);
+            first = false;
+        }
+
+        writer.writeByte(']');
+    }
+
+    /**
+     * Writes money with two decimals and occupancy as a percentage with two decimals.
+     */
+    public static void writePeriodReport(JsonWriter writer, PeriodReport report) {
+        writer.writeAscii(START).writeDate(report.start())
+                .writeAscii(END).writeDate(report.end())
+                .writeAscii(TOTAL);
+        writeMetrics(writer, report.total());
+        writer.writeAscii(ROOM_TYPE_METRICS);
+
+        boolean first = true;
+        for (Map.Entry<RoomType, PeriodReport.Metrics> entry : report.metricsByRoomType().entrySet()) {
+            if (!first) {
+                writer.writeByte(',');
+            }
+            writer.writeAscii(ROOM_TYPES[entry.getKey().ordinal()]).writeByte(':');
+            writeMetrics(writer, entry.getValue());
+            first = false;
+        }
+
+        writer.writeByte('}').writeByte('}');
+    }
+
+    public static void writeDailyCounts(JsonWriter writer, DailyCounts day) {
+        writer.writeAscii(DATE).writeDate(day.date())
+                .writeAscii(TOTAL);
+        writeCounts(writer, day.total());
+        writer.writeAscii(ROOM_TYPE_METRICS);
+
+        boolean first = true;
+        for (Map.Entry<RoomType, DailyCounts.Counts> entry : day.countsByRoomType().entrySet()) {
+            if (!first) {
+                writer.writeByte(',');
+            }
+            writer.writeAscii(ROOM_TYPES[entry.getKey().ordinal()]).writeByte(':');
+            writeCounts(writer, entry.getValue());
+            first = false;
+        }
+
+        writer.writeByte('}').writeByte('}');
+    }
+
+    private static void writeCounts(JsonWriter writer, DailyCounts.Counts counts) {
+        writer.writeAscii(ROOMS_SOLD).writeLong(counts.roomsSold())
+                .writeAscii(ARRIVALS).writeLong(counts.arrivals())
+                .writeAscii(DEPARTURES).writeLong(counts.departures())
+                .writeByte('}');
+    }
+
+    private static void writeMetrics(JsonWriter writer, PeriodReport.Metrics metrics) {
+        writer.writeAscii(AVAILABLE_ROOM_NIGHTS).writeLong(metrics.availableRoomNights())
+                .writeAscii(SOLD_ROOM_NIGHTS).writeLong(metrics.soldRoomNights())
+                .writeAscii(OCCUPANCY_PERCENT).writeDecimal(Math.round(metrics.occupancy() * 10_000), 2)
+                .writeAscii(REVENUE).writeDecimal(metrics.revenueCents(), 2)
+                .writeAscii(AVERAGE_DAILY_RATE).writeDecimal(metrics.averageDailyRateCents(), 2)
+                .writeAscii(REV_PAR).writeDecimal(metrics.revParCents(), 2)
+                .writeByte('}');
+    }
+
+    public static void writePrimaryStatus(JsonWriter writer, PrimaryStatus status) {
+        writer.writeAscii(ROLE_PRIMARY)
+                .writeAscii(POSITION).writeLong(status.position())
+                .writeAscii(REPLICAS);
+        writeArray(writer, status.replicas(), (replicaWriter, replica) -> replicaWriter
+                .writeAscii(ADDRESS).writeString(replica.address())
+                .writeAscii(SENT_POSITION).writeLong(replica.sentPosition())
+                .writeAscii(LAG_BYTES).writeLong(status.position() - replica.sentPosition())
+                .writeByte('}'));
+        writer.writeByte('}');
+    }
+
+    public static void writeReplicaStatus(JsonWriter writer, ReplicaStatus status) {
+        writer.writeAscii(ROLE_REPLICA)
+                .writeAscii(CONNECTED).writeAscii(status.connected() ? TRUE : FALSE)
+                .writeAscii(RESYNCING).writeAscii(status.resyncing() ? TRUE : FALSE)
+                .writeAscii(APPLIED_POSITION).writeLong(status.appliedPosition())
+                .writeAscii(PRIMARY_POSITION).writeLong(status.primaryPosition())
+                .writeAscii(LAG_BYTES).writeLong(status.lagBytes())
+                .writeAscii(LAG_MILLIS).writeLong(status.lagMillis())
+                .writeByte('}');
+    }
+
+    public static void writeStandaloneStatus(JsonWriter writer) {
+        writer.writeAscii(ROLE_STANDALONE);
+    }
+
+    static void writeError(JsonWriter writer, String message) {
+        writer.writeAscii(ERROR).writeString(message.strip()).writeByte('}');
+    }
+
+    /**
+     * Reads one booking request object; unknown fields are skipped.
+     */
+    public static BookingRequest readBookingRequest(JsonReader reader) {
+        int roomId = 0;
+        int guestId = 0;
+        LocalDate checkInDate = null;
+        LocalDate checkOutDate = null;
+
+        reader.beginObject();
+        while (reader.nextField()) {
+            if (reader.fieldIs("roomId")) {
+                roomId = reader.readInt();
+            } else if (reader.fieldIs("guestId")) {
+                guestId = reader.readInt();
+            } else if (reader.fieldIs("checkInDate")) {
+                checkInDate = reader.readDate();
+            } else if (reader.fieldIs("checkOutDate")) {
+                checkOutDate = reader.readDate();
+            } else {
+                reader.skipValue();
+            }
+        }
+
+        return new BookingRequest(
+                requiredId(roomId, "roomId"),
+                requiredId(guestId, "guestId"),
+                HttpExchanges.required(checkInDate, "checkInDate"),
+                HttpExchanges.required(checkOutDate, "checkOutDate")
+        );
+    }
+
+    private static int requiredId(int id, String name) {
+        if (id < 1) {
+            throw new InvalidRequestException("'" + name + "' is required and must be a positive integer.");
+        }
+
+        return id;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,383 @@
+package developer.ezandro.api;
+
+import module java.base;
+import developer.ezandro.exceptions.InvalidRequestException;
+
+/**
+ * Pull-style JSON decoder that reads straight from an {@link InputStream} through a reusable buffer.
+ */
+public final class JsonReader {
+    private static final int MAX_DEPTH = 64;
+    private static final int MAX_FIELD_NAME_BYTES = 64;
+
+    private final InputStream input;
+    private final ByteBuffer buffer;
+    private final byte[] fieldName = new byte[MAX_FIELD_NAME_BYTES];
+    private byte[] text = new byte[64];
+    private int fieldNameLength;
+    private int textLength;
+    private long consumedBeforeBuffer;
+    private long containersWithValues;
+    private int depth;
+
+    public JsonReader(InputStream input, ByteBuffer buffer) {
+        if (!buffer.hasArray()) {
+            throw new IllegalArgumentException("JsonReader needs a heap buffer.");
+        }
+
+        this.input = input;
+        this.buffer = buffer;
+        this.buffer.clear().limit(0);
+    }
+
+    public void beginObject() {
+        this.expect('{');
+        this.push();
+    }
+
+    /**
+     * Advances to the next field of the current object, returning false once the object
+     * ends. The field's value must then be read or skipped.
+     */
+    public boolean nextField() {
+        if (this.peek() == '}') {
+            this.read();
+            this.pop();
+            return false;
+        }
+
+        this.separateValue();
+        this.readFieldName();
+        this.expect(':');
+        return true;
+    }
+
+    public boolean fieldIs(String name) {
+        if (name.length() != this.fieldNameLength) {
+            return false;
+        }
+
+        for (int i = 0; i < this.fieldNameLength; i++) {
+            if (this.fieldName[i] != name.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void beginArray() {
+        this.expect('[');
+        this.push();
+    }
+
+    /**
+     * Advances to the next element of the current array, returning false once the array ends.
+     */
+    public boolean nextElement() {
+        if (this.peek() == ']') {
+            this.read();
+            this.pop();
+            return false;
+        }
+
+        this.separateValue();
+        return true;
+    }
+
+    public int readInt() {
+        boolean negative = this.peek() == '-';
+        if (negative) {
+            this.read();
+        }
+
+        long value = 0;
+        int digits = 0;
+
+        while (this.peekRaw() >= '0' && this.peekRaw() <= '9') {
+            value = value * 10 + (this.read() - '0');
+            if (++digits > 10) {
+                break;
+            }
+        }
+
+        value = negative ? -value : value;
+        int next = this.peekRaw();
+
+        if (digits == 0 || digits > 10 || value != (int) value || next == '.' || next == 'e' || next == 'E') {
+            throw new InvalidRequestException("'" + this.fieldName() + "' must be a valid integer.");
+        }
+
+        return (int) value;
+    }
+
+    /**
+     * Reads a string value, or returns null for a JSON {@code null}.
+     */
+    public String readString() {
+        if (this.readNull()) {
+            return null;
+        }
+
+        this.readText();
+        return new String(this.text, 0, this.textLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a {@code YYYY-MM-DD} string value, or returns null for a JSON {@code null}.
+     */
+    public LocalDate readDate() {
+        if (this.readNull()) {
+            return null;
+        }
+
+        this.readText();
+
+        if (this.textLength == 10 && this.text[4] == '-' && this.text[7] == '-') {
+            int year = this.textDigits(0, 4);
+            int month = this.textDigits(5, 2);
+            int day = this.textDigits(8, 2);
+
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException _) {
+                    // Falls through to the format error below.
+                }
+            }
+        }
+
+        throw new InvalidRequestException("'" + this.fieldName() + "' must be a valid date (YYYY-MM-DD).");
+    }
+
+    public void skipValue() {
+        switch (this.peek()) {
+            case '"' -> this.readText();
+            case '{', '[' -> {
+                int nesting = 0;
+                do {
+                    int character = this.peek();
+                    if (character == '"') {
+                        this.readText();
+                        continue;
+                    }
+                    this.read();
+                    if (character == '{' || character == '[') {
+                        nesting++;
+                    } else if (character == '}' || character == ']') {
+                        nesting--;
+                    }
+                } while (nesting > 0);
+            }
+            default -> {
+                int start = this.consumed();
+                while (this.peekRaw() >= 0 && ",}] \t\r\n".indexOf(this.peekRaw()) < 0) {
+                    this.read();
+                }
+                if (start == this.consumed()) {
+                    throw this.error("a value");
+                }
+            }
+        }
+    }
+
+    public void expectEnd() {
+        if (this.peek() >= 0) {
+            throw this.error("end of input");
+        }
+    }
+
+    String fieldName() {
+        return new String(this.fieldName, 0, Math.min(this.fieldNameLength, MAX_FIELD_NAME_BYTES), StandardCharsets.UTF_8);
+    }
+
+    private boolean readNull() {
+        if (this.peek() != 'n') {
+            return false;
+        }
+
+        for (int i = 0; i < 4; i++) {
+            if (this.read() != "null".charAt(i)) {
+                throw this.error("null");
+            }
+        }
+
+        return true;
+    }
+
+    private void readFieldName() {
+        this.expect('"');
+        this.fieldNameLength = 0;
+
+        for (int character = this.read(); character != '"'; character = this.read()) {
+            if (character == '\\') {
+                character = this.read();
+            }
+            if (this.fieldNameLength < MAX_FIELD_NAME_BYTES) {
+                this.fieldName[this.fieldNameLength] = (byte) character;
+            }
+            this.fieldNameLength++;
+        }
+    }
+
+    /**
+     * Reads a quoted string into {@link #text} as UTF-8, resolving escapes.
+     */
+    private void readText() {
+        this.expect('"');
+        this.textLength = 0;
+
+        for (int character = this.read(); character != '"'; character = this.read()) {
+            if (character != '\\') {
+                this.appendText(character);
+                continue;
+            }
+
+            int escaped = this.read();
+            switch (escaped) {
+                case 'n' -> this.appendText('\n');
+                case 'r' -> this.appendText('\r');
+                case 't' -> this.appendText('\t');
+                case 'b' -> this.appendText('\b');
+                case 'f' -> this.appendText('\f');
+                case 'u' -> this.appendCodeUnit(this.readHexCodeUnit());
+                default -> this.appendText(escaped);
+            }
+        }
+    }
+
+    private char readHexCodeUnit() {
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(this.read(), 16);
+            if (digit < 0) {
+                throw this.error("four hex digits");
+            }
+            value = value << 4 | digit;
+        }
+
+        return (char) value;
+    }
+
+    private void appendCodeUnit(char codeUnit) {
+        if (Character.isHighSurrogate(codeUnit) && this.peekRaw() == '\\') {
+            this.read();
+            if (this.read() != 'u') {
+                throw this.error("a low surrogate escape");
+            }
+            int codePoint = Character.toCodePoint(codeUnit, this.readHexCodeUnit());
+            this.appendText(0xF0 | codePoint >> 18);
+            this.appendText(0x80 | codePoint >> 12 & 0x3F);
+            this.appendText(0x80 | codePoint >> 6 & 0x3F);
+            this.appendText(0x80 | codePoint & 0x3F);
+        } else if (codeUnit < 0x80) {
+            this.appendText(codeUnit);
+        } else if (codeUnit < 0x800) {
+            this.appendText(0xC0 | codeUnit >> 6);
+            this.appendText(0x80 | codeUnit & 0x3F);
+        } else {
+            this.appendText(0xE0 | codeUnit >> 12);
+            this.appendText(0x80 | codeUnit >> 6 & 0x3F);
+            this.appendText(0x80 | codeUnit & 0x3F);
+        }
+    }
+
+    private void appendText(int utf8Byte) {
+        if (this.textLength == this.text.length) {
+            this.text = Arrays.copyOf(this.text, this.text.length * 2);
+        }
+
+        this.text[this.textLength++] = (byte) utf8Byte;
+    }
+
+    private int textDigits(int offset, int length) {
+        int value = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            if (this.text[i] < '0' || this.text[i] > '9') {
+                return -1;
+            }
+            value = value * 10 + this.text[i] - '0';
+        }
+
+        return value;
+    }
+
+    private void separateValue() {
+        long bit = 1L << this.depth;
+
+        if ((this.containersWithValues & bit) != 0) {
+            this.expect(',');
+        }
+
+        this.containersWithValues |= bit;
+    }
+
+    private void push() {
+        if (++this.depth == MAX_DEPTH) {
+            throw this.error("less nesting");
+        }
+
+        this.containersWithValues &= ~(1L << this.depth);
+    }
+
+    private void pop() {
+        this.depth--;
+    }
+
+    private void expect(char expected) {
+        if (this.peek() != expected) {
+            throw this.error("'" + expected + "'");
+        }
+
+        this.read();
+    }
+
+    /**
+     * Returns the next non-whitespace byte without consuming it, or -1 at the end of input.
+     */
+    private int peek() {
+        while (this.peekRaw() == ' ' || this.peekRaw() == '\t' || this.peekRaw() == '\r' || this.peekRaw() == '\n') {
+            this.read();
+        }
+
+        return this.peekRaw();
+    }
+
+    private int peekRaw() {
+        if (!this.buffer.hasRemaining() && !this.fill()) {
+            return -1;
+        }
+
+        return this.buffer.get(this.buffer.position()) & 0xFF;
+    }
+
+    private int read() {
+        if (!this.buffer.hasRemaining() && !this.fill()) {
+            throw this.error("more input");
+        }
+
+        return this.buffer.get() & 0xFF;
+    }
+
+    private boolean fill() {
+        this.consumedBeforeBuffer += this.buffer.limit();
+
+        try {
+            int read = this.input.read(this.buffer.array(), this.buffer.arrayOffset(), this.buffer.capacity());
+            this.buffer.position(0).limit(Math.max(read, 0));
+            return read > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int consumed() {
+        return (int) (this.consumedBeforeBuffer + this.buffer.position());
+    }
+
+    private InvalidRequestException error(String expected) {
+        return new InvalidRequestException(String.format("Malformed JSON: expected %s at position %d.", expected, this.consumed()));
+    }
+}
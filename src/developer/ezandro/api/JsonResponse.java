@@ -0,0 +1,17 @@
+package developer.ezandro.api;
+
+import module java.base;
+
+record JsonResponse(int status, Consumer<JsonWriter> body) {
+    static JsonResponse ok(Consumer<JsonWriter> body) {
+        return new JsonResponse(200, body);
+    }
+
+    static JsonResponse created(Consumer<JsonWriter> body) {
+        return new JsonResponse(201, body);
+    }
+
+    static JsonResponse error(int status, String message) {
+        return new JsonResponse(status, writer -> Json.writeError(writer, message));
+    }
+}
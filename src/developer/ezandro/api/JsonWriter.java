@@ -0,0 +1,226 @@
+package developer.ezandro.api;
+
+import module java.base;
+
+/**
+ * Writes JSON into a reusable {@link ByteBuffer}, handing it to the {@link Sink} whenever it fills up.
+ */
+public final class JsonWriter {
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_INT = String.valueOf(Integer.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_CHAR_BYTES = 6;
+    private static final int MAX_INT_BYTES = 11;
+    private static final int MAX_LONG_BYTES = 20;
+
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Receives the next chunk of output, flipped for reading; {@code last} is true for
+         * the final chunk of the document.
+         */
+        void write(ByteBuffer chunk, boolean last) throws IOException;
+    }
+
+    private final ByteBuffer buffer;
+    private final Sink sink;
+
+    public JsonWriter(ByteBuffer buffer, Sink sink) {
+        this.buffer = buffer;
+        this.sink = sink;
+        this.buffer.clear();
+    }
+
+    public JsonWriter writeAscii(byte[] ascii) {
+        if (ascii.length > this.buffer.remaining()) {
+            for (byte character : ascii) {
+                this.ensureCapacity(1);
+                this.buffer.put(character);
+            }
+            return this;
+        }
+
+        this.buffer.put(ascii);
+        return this;
+    }
+
+    public JsonWriter writeByte(char asciiCharacter) {
+        this.ensureCapacity(1);
+        this.buffer.put((byte) asciiCharacter);
+        return this;
+    }
+
+    public JsonWriter writeInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            return this.writeAscii(MIN_INT);
+        }
+
+        this.ensureCapacity(MAX_INT_BYTES);
+
+        if (value < 0) {
+            this.buffer.put((byte) '-');
+            value = -value;
+        }
+
+        int digits = 1;
+        for (int remaining = value; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+
+        int end = this.buffer.position() + digits;
+        for (int index = end - 1; index >= this.buffer.position(); index--) {
+            this.buffer.put(index, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+
+        this.buffer.position(end);
+        return this;
+    }
+
+    public JsonWriter writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            return this.writeAscii(MIN_LONG);
+        }
+
+        this.ensureCapacity(MAX_LONG_BYTES);
+
+        if (value < 0) {
+            this.buffer.put((byte) '-');
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long remaining = value; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+
+        int end = this.buffer.position() + digits;
+        for (int index = end - 1; index >= this.buffer.position(); index--) {
+            this.buffer.put(index, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+
+        this.buffer.position(end);
+        return this;
+    }
+
+    /**
+     * Writes {@code unscaledValue / 10^scale} as a decimal number with exactly {@code scale}
+     * fraction digits, e.g. cents with a scale of 2.
+     */
+    public JsonWriter writeDecimal(long unscaledValue, int scale) {
+        long divisor = 1;
+        for (int i = 0; i < scale; i++) {
+            divisor *= 10;
+        }
+
+        if (unscaledValue < 0) {
+            this.writeByte('-');
+        }
+
+        this.writeLong(Math.abs(unscaledValue / divisor));
+        this.ensureCapacity(scale + 1);
+        this.buffer.put((byte) '.');
+        this.putDigits((int) Math.abs(unscaledValue % divisor), scale);
+        return this;
+    }
+
+    /**
+     * Writes the date as a quoted {@code YYYY-MM-DD} string.
+     */
+    public JsonWriter writeDate(LocalDate date) {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return this.writeString(date.toString());
+        }
+
+        this.ensureCapacity(12);
+        this.buffer.put((byte) '"');
+        this.putDigits(date.getYear(), 4);
+        this.buffer.put((byte) '-');
+        this.putDigits(date.getMonthValue(), 2);
+        this.buffer.put((byte) '-');
+        this.putDigits(date.getDayOfMonth(), 2);
+        this.buffer.put((byte) '"');
+        return this;
+    }
+
+    /**
+     * Writes the value as a quoted, escaped JSON string encoded in UTF-8.
+     */
+    public JsonWriter writeString(String value) {
+        this.ensureCapacity(1);
+        this.buffer.put((byte) '"');
+
+        boolean fits = this.buffer.remaining() > value.length() * MAX_CHAR_BYTES;
+
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (!fits) {
+                this.ensureCapacity(MAX_CHAR_BYTES);
+            }
+
+            if (character == '"' || character == '\\') {
+                this.buffer.put((byte) '\\').put((byte) character);
+            } else if (character < 0x20) {
+                this.buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                        .put(HEX_DIGITS[character >> 4]).put(HEX_DIGITS[character & 0xF]);
+            } else if (character < 0x80) {
+                this.buffer.put((byte) character);
+            } else if (character < 0x800) {
+                this.buffer.put((byte) (0xC0 | character >> 6)).put((byte) (0x80 | character & 0x3F));
+            } else if (Character.isHighSurrogate(character) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(character, value.charAt(++i));
+                this.buffer.put((byte) (0xF0 | codePoint >> 18))
+                        .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                        .put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(character)) {
+                this.buffer.put((byte) '?');
+            } else {
+                this.buffer.put((byte) (0xE0 | character >> 12))
+                        .put((byte) (0x80 | character >> 6 & 0x3F))
+                        .put((byte) (0x80 | character & 0x3F));
+            }
+        }
+
+        this.ensureCapacity(1);
+        this.buffer.put((byte) '"');
+        return this;
+    }
+
+    /**
+     * Hands the remaining output to the sink as the last chunk.
+     */
+    public void finish() {
+        this.flush(true);
+    }
+
+    private void putDigits(int value, int width) {
+        int end = this.buffer.position() + width;
+        for (int index = end - 1; index >= end - width; index--) {
+            this.buffer.put(index, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+
+        this.buffer.position(end);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            this.flush(false);
+        }
+    }
+
+    private void flush(boolean last) {
+        this.buffer.flip();
+
+        try {
+            this.sink.write(this.buffer, last);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.buffer.clear();
+    }
+}
@@ -0,0 +1,139 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.metrics.HistogramSnapshot;
+import developer.ezandro.metrics.OperationMetrics;
+import developer.ezandro.metrics.Outcome;
+import developer.ezandro.replication.PrimaryStatus;
+import developer.ezandro.replication.ReplicaStatus;
+import developer.ezandro.services.ReplicationService;
+import developer.ezandro.services.PropertyRouter;
+import developer.ezandro.services.PropertyServices;
+
+/**
+ * Serves every property's service metrics in the Prometheus text format.
+ */
+record MetricsHandler(PropertyRouter propertyRouter) implements HttpHandler {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double MILLIS_PER_SECOND = 1e3;
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if (!HttpExchanges.subPath(exchange).isEmpty()) {
+            HttpExchanges.respond(exchange, HttpExchanges::notFound);
+            return;
+        }
+
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            HttpExchanges.respond(exchange, HttpExchanges::methodNotAllowed);
+            return;
+        }
+
+        byte[] body = this.scrape().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+
+        try (exchange) {
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private String scrape() {
+        Map<String, OperationMetrics> operations = new LinkedHashMap<>();
+        Map<String, HistogramSnapshot> latencies = new LinkedHashMap<>();
+
+        for (PropertyServices property : this.propertyRouter.properties()) {
+            for (OperationMetrics operation : property.metrics().operations()) {
+                String labels = "property=\"" + property.property() + "\",operation=\"" + operation.name() + "\"";
+                operations.put(labels, operation);
+                latencies.put(labels, operation.latencies());
+            }
+        }
+
+        StringBuilder text = new StringBuilder();
+
+        text.append("# HELP hotel_operation_duration_seconds Latency of service operations.\n");
+        text.append("# TYPE hotel_operation_duration_seconds summary\n");
+        latencies.forEach((labels, snapshot) -> {
+            for (double quantile : QUANTILES) {
+                sample(text, "hotel_operation_duration_seconds", labels + ",quantile=\"" + quantile + "\"",
+                        seconds(snapshot.percentileNanos(quantile * 100)));
+            }
+            sample(text, "hotel_operation_duration_seconds_sum", labels, seconds(snapshot.totalNanos()));
+            sample(text, "hotel_operation_duration_seconds_count", labels, snapshot.count());
+        });
+
+        text.append("# HELP hotel_operation_duration_max_seconds Slowest service operation since startup.\n");
+        text.append("# TYPE hotel_operation_duration_max_seconds gauge\n");
+        latencies.forEach((labels, snapshot) ->
+                sample(text, "hotel_operation_duration_max_seconds", labels, seconds(snapshot.maxNanos())));
+
+        text.append("# HELP hotel_operation_outcomes_total Service operations by how they ended.\n");
+        text.append("# TYPE hotel_operation_outcomes_total counter\n");
+        operations.forEach((labels, operation) -> {
+            for (Outcome outcome : Outcome.values()) {
+                sample(text, "hotel_operation_outcomes_total",
+                        labels + ",outcome=\"" + outcome.name().toLowerCase(Locale.ROOT) + "\"", operation.count(outcome));
+            }
+        });
+
+        this.appendReplicationLag(text);
+        return text.toString();
+    }
+
+    /**
+     * A replica reports how far it is behind its primary; a primary reports, per connected
+     * replica, the bytes of its stream it has not yet sent.
+     */
+    private void appendReplicationLag(StringBuilder text) {
+        Map<String, ReplicaStatus> replicas = new LinkedHashMap<>();
+        Map<String, Long> unsentBytes = new LinkedHashMap<>();
+
+        for (PropertyServices property : this.propertyRouter.properties()) {
+            ReplicationService replicationService = property.replicationService();
+            String labels = "property=\"" + property.property() + "\"";
+
+            if (replicationService.isReplica()) {
+                replicas.put(labels, replicationService.follower().status());
+            }
+
+            if (replicationService.isPrimary()) {
+                PrimaryStatus status = replicationService.source().status();
+                for (PrimaryStatus.Replica replica : status.replicas()) {
+                    unsentBytes.put(labels + ",replica=\"" + replica.address() + "\"", status.position() - replica.sentPosition());
+                }
+            }
+        }
+
+        if (!replicas.isEmpty()) {
+            text.append("# HELP hotel_replication_lag_bytes Bytes of the primary's stream this replica has not applied.\n");
+            text.append("# TYPE hotel_replication_lag_bytes gauge\n");
+            replicas.forEach((labels, status) -> sample(text, "hotel_replication_lag_bytes", labels, status.lagBytes()));
+
+            text.append("# HELP hotel_replication_lag_seconds Time since this replica last had everything its primary had.\n");
+            text.append("# TYPE hotel_replication_lag_seconds gauge\n");
+            replicas.forEach((labels, status) ->
+                    sample(text, "hotel_replication_lag_seconds", labels, status.lagMillis() / MILLIS_PER_SECOND));
+
+            text.append("# HELP hotel_replication_connected Whether this replica is connected to its primary.\n");
+            text.append("# TYPE hotel_replication_connected gauge\n");
+            replicas.forEach((labels, status) -> sample(text, "hotel_replication_connected", labels, status.connected() ? 1 : 0));
+        }
+
+        if (!unsentBytes.isEmpty()) {
+            text.append("# HELP hotel_replication_unsent_bytes Bytes of this primary's stream not yet sent to a replica.\n");
+            text.append("# TYPE hotel_replication_unsent_bytes gauge\n");
+            unsentBytes.forEach((labels, bytes) -> sample(text, "hotel_replication_unsent_bytes", labels, bytes));
+        }
+    }
+
+    private static void sample(StringBuilder text, String name, String labels, Object value) {
+        text.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,29 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+
+/**
+ * Runs each exchange on its own virtual thread while it holds one of its property's request
+ * permits, answering 503 when that property has none left.
+ */
+record PropertyDispatcher(String property, HttpHandler handler, Semaphore requestPermits) implements HttpHandler {
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if (!this.requestPermits.tryAcquire()) {
+            HttpExchanges.respond(exchange, this::busy);
+            return;
+        }
+
+        try {
+            this.handler.handle(exchange);
+        } finally {
+            this.requestPermits.release();
+        }
+    }
+
+    private JsonResponse busy(HttpExchange exchange) {
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        return JsonResponse.error(503, "Property '" + this.property + "' is busy, please retry.");
+    }
+}
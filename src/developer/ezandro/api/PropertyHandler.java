@@ -0,0 +1,34 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.services.PropertyRouter;
+import developer.ezandro.services.PropertyServices;
+
+/**
+ * Lists the property codes. Requests under a property's prefix only reach this handler
+ * when they match none of its routes, and are answered with 404.
+ */
+record PropertyHandler(PropertyRouter propertyRouter) implements HttpHandler {
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        HttpExchanges.respond(exchange, this::route);
+    }
+
+    private JsonResponse route(HttpExchange exchange) {
+        String subPath = HttpExchanges.subPath(exchange);
+
+        if (subPath.isEmpty()) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                return HttpExchanges.methodNotAllowed(exchange);
+            }
+
+            List<String> properties = this.propertyRouter.properties().stream().map(PropertyServices::property).toList();
+            return JsonResponse.ok(writer -> Json.writeArray(writer, properties, JsonWriter::writeString));
+        }
+
+        int separator = subPath.indexOf('/');
+        this.propertyRouter.route(separator < 0 ? subPath : subPath.substring(0, separator));
+        return HttpExchanges.notFound(exchange);
+    }
+}
@@ -0,0 +1,34 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.replication.ReplicaStatus;
+import developer.ezandro.replication.ReplicationFollower;
+
+/**
+ * Lets only reads through to a replica's handlers, and only while the replica's copy is
+ * complete and within its lag bound; otherwise they are answered with 503.
+ */
+record ReplicaGuard(HttpHandler handler, ReplicationFollower follower) implements HttpHandler {
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if ("GET".equals(exchange.getRequestMethod()) && this.follower.isReadable()) {
+            this.handler.handle(exchange);
+        } else {
+            HttpExchanges.respond(exchange, this::reject);
+        }
+    }
+
+    private JsonResponse reject(HttpExchange exchange) {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            return JsonResponse.error(405, "This node is a read-only replica; send changes to the primary.");
+        }
+
+        ReplicaStatus status = this.follower.status();
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        return JsonResponse.error(503, status.resyncing()
+                ? "This replica is still copying its primary's data."
+                : "This replica is " + status.lagMillis() + " ms behind its primary (at most "
+                  + this.follower.maxLagMillis() + " ms allowed).");
+    }
+}
@@ -0,0 +1,32 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.services.ReplicationService;
+
+record ReplicationHandler(ReplicationService replicationService) implements HttpHandler {
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        HttpExchanges.respond(exchange, this::route);
+    }
+
+    private JsonResponse route(HttpExchange exchange) {
+        if (!HttpExchanges.subPath(exchange).isEmpty()) {
+            return HttpExchanges.notFound(exchange);
+        }
+
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            return HttpExchanges.methodNotAllowed(exchange);
+        }
+
+        if (this.replicationService.isReplica()) {
+            return JsonResponse.ok(writer -> Json.writeReplicaStatus(writer, this.replicationService.follower().status()));
+        }
+
+        if (this.replicationService.isPrimary()) {
+            return JsonResponse.ok(writer -> Json.writePrimaryStatus(writer, this.replicationService.source().status()));
+        }
+
+        return JsonResponse.ok(Json::writeStandaloneStatus);
+    }
+}
@@ -0,0 +1,76 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module jdk.httpserver;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.services.RoomService;
+
+record RoomHandler(RoomService roomService) implements HttpHandler {
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        HttpExchanges.respond(exchange, this::route);
+    }
+
+    private JsonResponse route(HttpExchange exchange) throws IOException {
+        String subPath = HttpExchanges.subPath(exchange);
+
+        return switch (exchange.getRequestMethod()) {
+            case "GET" -> subPath.isEmpty()
+                    ? this.getRooms(exchange)
+                    : this.getRoom(HttpExchanges.parseId(subPath));
+            case "POST" -> subPath.isEmpty()
+                    ? this.addRoom(exchange)
+                    : HttpExchanges.methodNotAllowed(exchange);
+            default -> HttpExchanges.methodNotAllowed(exchange);
+        };
+    }
+
+    private JsonResponse getRooms(HttpExchange exchange) {
+        Stream<Room> rooms = HttpExchanges.paginate(HttpExchanges.queryParameters(exchange), this.roomService::streamRooms);
+        return JsonResponse.ok(writer -> Json.writeArray(writer, rooms::iterator, Json::writeRoom));
+    }
+
+    private JsonResponse getRoom(int id) {
+        Room room = this.roomService.findRoomById(id);
+        return JsonResponse.ok(writer -> Json.writeRoom(writer, room));
+    }
+
+    private JsonResponse addRoom(HttpExchange exchange) throws IOException {
+        NewRoom request = HttpExchanges.readJson(exchange, NewRoom::read);
+        Room room = this.roomService.addRoom(request.number(), request.capacity(), request.roomType());
+        return JsonResponse.created(writer -> Json.writeRoom(writer, room));
+    }
+
+    private record NewRoom(String number, int capacity, RoomType roomType) {
+        private static NewRoom read(JsonReader reader) {
+            String number = null;
+            Integer capacity = null;
+            String roomType = null;
+
+            reader.beginObject();
+            while (reader.nextField()) {
+                if (reader.fieldIs("number")) {
+                    number = reader.readString();
+                } else if (reader.fieldIs("capacity")) {
+                    capacity = reader.readInt();
+                } else if (reader.fieldIs("roomType")) {
+                    roomType = reader.readString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+
+            if (HttpExchanges.required(capacity, "capacity") < 1) {
+                throw new InvalidRequestException("'capacity' must be at least 1.");
+            }
+
+            return new NewRoom(
+                    HttpExchanges.required(number, "number"),
+                    capacity,
+                    RoomType.valueOf(HttpExchanges.required(roomType, "roomType").toUpperCase(Locale.ROOT))
+            );
+        }
+    }
+}
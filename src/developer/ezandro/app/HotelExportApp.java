@@ -0,0 +1,75 @@
+package developer.ezandro.app;
+
+import module java.base;
+import developer.ezandro.bulk.BulkExporter;
+import developer.ezandro.exceptions.ExportException;
+import developer.ezandro.persistence.BookingArchive;
+import developer.ezandro.persistence.DataDirectoryLock;
+import developer.ezandro.persistence.LogApplier;
+import developer.ezandro.persistence.SnapshotStore;
+import developer.ezandro.persistence.WriteAheadLog;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+
+/**
+ * Exports the bookings of the data directory, optionally only those with a night in {@code [from, to)}:
+ * <pre>{@code
+ * java -cp bin developer.ezandro.app.HotelExportApp --bookings=bookings.csv --from=2026-01-01 --to=2026-02-01
+ * }</pre>
+ */
+public class HotelExportApp {
+    private static final Path DATA_DIRECTORY = Path.of(System.getProperty("hotel.data.dir", "data"));
+    private static final int ENCODER_THREADS = Integer.getInteger("hotel.export.threads", Runtime.getRuntime().availableProcessors());
+    private static final String USAGE = """
+            Usage: HotelExportApp --bookings=<file> [--from=YYYY-MM-DD] [--to=YYYY-MM-DD]
+            The file is written as .csv (with a header line) or .bin; see the README for its columns.""";
+
+    private HotelExportApp() {
+    }
+
+    static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 2 && arg.startsWith("--")) {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        if (!options.containsKey("bookings") || options.size() != args.length
+                || !Set.of("bookings", "from", "to").containsAll(options.keySet())) {
+            IO.println(USAGE);
+            return;
+        }
+
+        Path file = Path.of(options.get("bookings"));
+        LocalDate from = options.containsKey("from") ? LocalDate.parse(options.get("from")) : null;
+        LocalDate to = options.containsKey("to") ? LocalDate.parse(options.get("to")) : null;
+
+        try (DataDirectoryLock _ = DataDirectoryLock.acquire(DATA_DIRECTORY)) {
+            RoomRepository roomRepository = new RoomRepository();
+            GuestRepository guestRepository = new GuestRepository();
+            BookingRepository bookingRepository = new BookingRepository();
+            LogApplier repositories = new LogApplier(roomRepository, guestRepository, bookingRepository);
+            long firstLogSegment = new SnapshotStore(DATA_DIRECTORY.resolve("hotel.snapshot")).load(repositories);
+
+            try (WriteAheadLog writeAheadLog = new WriteAheadLog(DATA_DIRECTORY.resolve("wal"), 1)) {
+                writeAheadLog.replay(repositories, firstLogSegment);
+            }
+
+            BookingArchive bookingArchive = new BookingArchive(DATA_DIRECTORY.resolve("archive"), roomRepository);
+
+            try {
+                long start = System.nanoTime();
+                long exportedBookings = new BulkExporter(bookingRepository, bookingArchive, ENCODER_THREADS)
+                        .exportBookings(file, from, to);
+                IO.println(String.format("INFO: Exported %d bookings to '%s' in %d ms.",
+                        exportedBookings, file, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+            } catch (ExportException e) {
+                IO.println(e.getMessage());
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package developer.ezandro.app;
+
+import module java.base;
+import developer.ezandro.bulk.BulkImporter;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.exceptions.ImportException;
+import developer.ezandro.persistence.BookingArchive;
+import developer.ezandro.persistence.Checkpointer;
+import developer.ezandro.persistence.DataDirectoryLock;
+import developer.ezandro.persistence.LogApplier;
+import developer.ezandro.persistence.SnapshotStore;
+import developer.ezandro.persistence.WriteAheadLog;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+
+/**
+ * Bulk import of rooms, guests and bookings into the data directory:
+ * <pre>{@code
+ * java -cp bin developer.ezandro.app.HotelImportApp --rooms=rooms.csv --guests=guests.csv --bookings=bookings.bin
+ * }</pre>
+ */
+public class HotelImportApp {
+    private static final Path DATA_DIRECTORY = Path.of(System.getProperty("hotel.data.dir", "data"));
+    private static final int PARSER_THREADS = Integer.getInteger("hotel.import.threads", Runtime.getRuntime().availableProcessors());
+    private static final int WAL_SYNC_EVERY_RECORDS = 10_000;
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(Long.getLong("hotel.checkpoint.intervalMinutes", 10));
+    private static final List<String> FILE_KINDS = List.of("rooms", "guests", "bookings");
+    private static final String USAGE = """
+            Usage: HotelImportApp [--rooms=<file>] [--guests=<file>] [--bookings=<file>]
+            Files are .csv (with a header line) or .bin; see the README for their columns.""";
+
+    private HotelImportApp() {
+    }
+
+    static void main(String[] args) {
+        Map<String, Path> files = parseArguments(args);
+
+        if (files.isEmpty()) {
+            IO.println(USAGE);
+            return;
+        }
+
+        boolean failed = false;
+
+        try (DataDirectoryLock _ = DataDirectoryLock.acquire(DATA_DIRECTORY)) {
+            RoomRepository roomRepository = new RoomRepository();
+            GuestRepository guestRepository = new GuestRepository();
+            BookingRepository bookingRepository = new BookingRepository();
+            LogApplier repositories = new LogApplier(roomRepository, guestRepository, bookingRepository);
+            SnapshotStore snapshotStore = new SnapshotStore(DATA_DIRECTORY.resolve("hotel.snapshot"));
+            BookingArchive bookingArchive = new BookingArchive(DATA_DIRECTORY.resolve("archive"), roomRepository);
+            long firstLogSegment = snapshotStore.load(repositories);
+
+            try (WriteAheadLog writeAheadLog = new WriteAheadLog(DATA_DIRECTORY.resolve("wal"), WAL_SYNC_EVERY_RECORDS)) {
+                writeAheadLog.replay(repositories, firstLogSegment);
+                Booking.ensureIdGeneratorAbove(bookingArchive.highestBookingId());
+
+                roomRepository.addListener(writeAheadLog);
+                guestRepository.addListener(writeAheadLog);
+                bookingRepository.addListener(writeAheadLog);
+
+                try (Checkpointer _ = new Checkpointer(writeAheadLog, snapshotStore, bookingArchive, repositories, CHECKPOINT_INTERVAL)) {
+                    BulkImporter importer = new BulkImporter(roomRepository, guestRepository, bookingRepository, PARSER_THREADS);
+
+                    importFile(files.get("rooms"), "rooms", importer::importRooms);
+                    importFile(files.get("guests"), "guests", importer::importGuests);
+                    importFile(files.get("bookings"), "bookings", importer::importBookings);
+                } catch (ImportException e) {
+                    IO.println(e.getMessage());
+                    failed = true;
+                }
+            }
+        }
+
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static void importFile(Path file, String kind, ToIntFunction<Path> importer) {
+        if (Objects.isNull(file)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int count = importer.applyAsInt(file);
+        IO.println(String.format("INFO: Imported %d %s from '%s' in %d ms.",
+                count, kind, file, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    /**
+     * Returns the files by kind, or an empty map if an argument is not {@code --<kind>=<file>}.
+     */
+    private static Map<String, Path> parseArguments(String[] args) {
+        Map<String, Path> files = new HashMap<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String kind = separator > 2 && arg.startsWith("--") ? arg.substring(2, separator) : "";
+
+            if (!FILE_KINDS.contains(kind)) {
+                return Map.of();
+            }
+
+            files.put(kind, Path.of(arg.substring(separator + 1)));
+        }
+
+        return files;
+    }
+}
@@ -1,27 +1,138 @@
 package developer.ezandro.app;
 
-import developer.ezandro.repositories.BookingRepository;
-import developer.ezandro.repositories.GuestRepository;
-import developer.ezandro.repositories.RoomRepository;
-import developer.ezandro.services.BookingService;
-import developer.ezandro.services.GuestService;
-import developer.ezandro.services.RoomService;
+import module java.base;
+import developer.ezandro.api.HotelHttpServer;
+import developer.ezandro.replication.ReplicationServer;
+import developer.ezandro.replication.ReplicationSource;
+import developer.ezandro.services.PropertyRouter;
+import developer.ezandro.services.PropertyServices;
 import developer.ezandro.ui.MainMenu;
 
 public class HotelReservationApp {
+    private static final Path DATA_DIRECTORY = Path.of(System.getProperty("hotel.data.dir", "data"));
+    private static final String PROPERTIES = System.getProperty("hotel.properties", "");
+    private static final String DEFAULT_PROPERTY = "main";
+    private static final Pattern PROPERTY_CODE = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final int REPLICATION_PORT = Integer.getInteger("hotel.replication.port", -1);
+    private static final String REPLICATION_PRIMARY = System.getProperty("hotel.replication.primary", "");
+    private static final int HTTP_PORT = Integer.getInteger("hotel.http.port", -1);
+    private static final boolean CONSOLE_ENABLED = Boolean.parseBoolean(System.getProperty("hotel.console", "true"));
+
     private HotelReservationApp() {
     }
 
+    /**
+     * Opens one shard per property in {@code -Dhotel.properties} (comma-separated codes),
+     * each under {@code <data dir>/<code>}. Without it the hotel is a single property kept
+     * in the data directory itself. The console works on the first property.
+     * <p>
+     * With {@code -Dhotel.replication.port} the node ships its changes to replicas on that
+     * port; with {@code -Dhotel.replication.primary=host:port} it is a read-only replica of
+     * that primary, for the same properties, and has no console.
+     */
     static void main() {
-        RoomRepository roomRepository = new RoomRepository();
-        RoomService roomService = new RoomService(roomRepository);
+        if (REPLICATION_PORT >= 0 && !REPLICATION_PRIMARY.isBlank()) {
+            throw new IllegalArgumentException("A replica cannot ship changes to other replicas.");
+        }
+
+        List<PropertyShard> shards = new ArrayList<>();
+
+        try {
+            if (PROPERTIES.isBlank()) {
+                shards.add(openShard(DEFAULT_PROPERTY, DATA_DIRECTORY));
+            } else {
+                for (String property : PROPERTIES.strip().split("\\s*,\\s*")) {
+                    if (!PROPERTY_CODE.matcher(property).matches()) {
+                        throw new IllegalArgumentException("Invalid property code '" + property + "' in hotel.properties.");
+                    }
+
+                    shards.add(openShard(property, DATA_DIRECTORY.resolve(property)));
+                }
+            }
+
+            PropertyRouter propertyRouter = new PropertyRouter(shards.stream().map(PropertyShard::services).toList());
+
+            try (ReplicationServer _ = startReplicationServer(propertyRouter);
+                 HotelHttpServer _ = startHttpServer(propertyRouter)) {
+                if (CONSOLE_ENABLED && REPLICATION_PRIMARY.isBlank()) {
+                    PropertyServices property = propertyRouter.defaultProperty();
+                    new MainMenu(
+                            property.roomService(),
+                            property.guestService(),
+                            property.bookingService(),
+                            property.guestDeduplicationService()
+                    ).start();
+                } else {
+                    awaitShutdown();
+                }
+            }
+        } finally {
+            shards.reversed().forEach(PropertyShard::close);
+        }
+    }
+
+    private static PropertyShard openShard(String property, Path dataDirectory) {
+        if (REPLICATION_PRIMARY.isBlank()) {
+            return new PropertyShard(property, dataDirectory, REPLICATION_PORT >= 0);
+        }
+
+        int separator = REPLICATION_PRIMARY.lastIndexOf(':');
+        InetSocketAddress primary = new InetSocketAddress(
+                REPLICATION_PRIMARY.substring(0, separator),
+                Integer.parseInt(REPLICATION_PRIMARY.substring(separator + 1))
+        );
+        return new PropertyShard(property, dataDirectory, primary);
+    }
+
+    private static ReplicationServer startReplicationServer(PropertyRouter propertyRouter) {
+        if (REPLICATION_PORT < 0) {
+            return null;
+        }
+
+        Map<String, ReplicationSource> sourcesByProperty = new HashMap<>();
+        for (PropertyServices property : propertyRouter.properties()) {
+            sourcesByProperty.put(property.property(), property.replicationService().source());
+        }
+
+        ReplicationServer replicationServer = new ReplicationServer(REPLICATION_PORT, sourcesByProperty);
+        replicationServer.start();
+        IO.println("INFO: Replicas can connect on port " + replicationServer.port());
+        return replicationServer;
+    }
+
+    private static HotelHttpServer startHttpServer(PropertyRouter propertyRouter) {
+        if (HTTP_PORT < 0) {
+            return null;
+        }
+
+        HotelHttpServer httpServer = new HotelHttpServer(HTTP_PORT, propertyRouter);
+        httpServer.start();
+        IO.println("INFO: HTTP API listening on port " + httpServer.port());
+        return httpServer;
+    }
+
+    /**
+     * Blocks until the JVM is asked to exit, then lets this thread close the server, the
+     * checkpointer and the log before the shutdown completes.
+     */
+    private static void awaitShutdown() {
+        CountDownLatch shutdownRequested = new CountDownLatch(1);
+        Thread mainThread = Thread.currentThread();
 
-        GuestRepository guestRepository = new GuestRepository();
-        GuestService guestService = new GuestService(guestRepository);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            shutdownRequested.countDown();
 
-        BookingRepository bookingRepository = new BookingRepository();
-        BookingService bookingService = new BookingService(bookingRepository, roomRepository, guestRepository);
+            try {
+                mainThread.join();
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        }));
 
-        new MainMenu(roomService, guestService, bookingService).start();
+        try {
+            shutdownRequested.await();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
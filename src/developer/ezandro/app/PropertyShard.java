@@ -0,0 +1,186 @@
+package developer.ezandro.app;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.metrics.ServiceMetrics;
+import developer.ezandro.persistence.BookingArchive;
+import developer.ezandro.persistence.Checkpointer;
+import developer.ezandro.persistence.DataDirectoryLock;
+import developer.ezandro.persistence.LogApplier;
+import developer.ezandro.persistence.SnapshotStore;
+import developer.ezandro.persistence.WriteAheadLog;
+import developer.ezandro.replication.ReplicationFollower;
+import developer.ezandro.replication.ReplicationSource;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.OffHeapBookingStore;
+import developer.ezandro.repositories.RepositoryListener;
+import developer.ezandro.repositories.RoomNightStatistics;
+import developer.ezandro.repositories.RoomRepository;
+import developer.ezandro.services.AnalyticsService;
+import developer.ezandro.services.AvailabilityService;
+import developer.ezandro.services.BookingArchiveService;
+import developer.ezandro.services.BookingService;
+import developer.ezandro.services.GuestDeduplicationService;
+import developer.ezandro.services.GuestService;
+import developer.ezandro.services.PropertyServices;
+import developer.ezandro.services.ReplicationService;
+import developer.ezandro.services.RoomService;
+
+/**
+ * One property of the chain, with its own repositories, data directory and request permits.
+ */
+final class PropertyShard implements AutoCloseable {
+    private static final int WAL_SYNC_EVERY_RECORDS = Integer.getInteger("hotel.wal.syncEveryRecords", 1);
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(Long.getLong("hotel.checkpoint.intervalMinutes", 10));
+    private static final int CONCURRENT_REQUESTS = Integer.getInteger("hotel.property.concurrentRequests", 1_024);
+    private static final int REPLICATION_BACKLOG_BYTES = Integer.getInteger("hotel.replication.backlogMegabytes", 64) << 20;
+    private static final long REPLICA_MAX_LAG_MILLIS = Long.getLong("hotel.replication.maxLagMillis", 5_000);
+    private static final boolean OFF_HEAP_BOOKINGS = Boolean.getBoolean("hotel.bookings.offHeap");
+
+    private final LogApplier repositories = newRepositories();
+    private final ServiceMetrics metrics = new ServiceMetrics();
+    private final DataDirectoryLock dataDirectoryLock;
+    private final BookingArchive bookingArchive;
+    private final AnalyticsService analyticsService;
+    private final WriteAheadLog writeAheadLog;
+    private final Checkpointer checkpointer;
+    private final ReplicationService replicationService;
+    private final Semaphore requestPermits = new Semaphore(CONCURRENT_REQUESTS);
+    private final PropertyServices services;
+
+    /**
+     * Recovers the property from its snapshot and log and starts logging its changes, and
+     * with {@code shipChanges} also keeps them for replicas.
+     */
+    PropertyShard(String property, Path dataDirectory, boolean shipChanges) {
+        this.dataDirectoryLock = DataDirectoryLock.acquire(dataDirectory);
+        this.bookingArchive = new BookingArchive(dataDirectory.resolve("archive"), this.repositories.roomRepository());
+        this.analyticsService = this.newAnalyticsService();
+
+        SnapshotStore snapshotStore = new SnapshotStore(dataDirectory.resolve("hotel.snapshot"));
+        long firstLogSegment = snapshotStore.load(this.repositories);
+        this.writeAheadLog = new WriteAheadLog(dataDirectory.resolve("wal"), WAL_SYNC_EVERY_RECORDS);
+
+        try {
+            this.writeAheadLog.replay(this.repositories, firstLogSegment);
+            Booking.ensureIdGeneratorAbove(this.bookingArchive.highestBookingId());
+            this.addListener(this.writeAheadLog);
+
+            this.replicationService = shipChanges
+                    ? new ReplicationService(new ReplicationSource(this.repositories, REPLICATION_BACKLOG_BYTES), null)
+                    : ReplicationService.STANDALONE;
+            if (this.replicationService.isPrimary()) {
+                this.addListener(this.replicationService.source());
+            }
+
+            this.analyticsService.startTracking();
+            this.checkpointer = new Checkpointer(this.writeAheadLog, snapshotStore, this.bookingArchive, this.repositories, CHECKPOINT_INTERVAL);
+        } catch (RuntimeException e) {
+            this.writeAheadLog.close();
+            this.repositories.bookingRepository().close();
+            this.dataDirectoryLock.close();
+            throw e;
+        }
+
+        this.services = this.newServices(property);
+        this.metrics.registerMBeans(property);
+    }
+
+    /**
+     * Opens the property as a read-only replica of the primary at the given address. The
+     * replica copies the primary's data on every connection and keeps nothing on disk;
+     * archived stays and analytics remain with the primary.
+     */
+    PropertyShard(String property, Path dataDirectory, InetSocketAddress primary) {
+        this.dataDirectoryLock = null;
+        this.bookingArchive = new BookingArchive(dataDirectory.resolve("archive"), this.repositories.roomRepository());
+        this.analyticsService = this.newAnalyticsService();
+        this.writeAheadLog = null;
+        this.checkpointer = null;
+
+        ReplicationFollower follower = new ReplicationFollower(property, primary, this.repositories, REPLICA_MAX_LAG_MILLIS);
+        this.replicationService = new ReplicationService(null, follower);
+        this.services = this.newServices(property);
+        this.metrics.registerMBeans(property);
+        follower.registerMBean();
+        follower.start();
+    }
+
+    PropertyServices services() {
+        return this.services;
+    }
+
+    /**
+     * Lets requests in flight finish, then takes a final checkpoint and closes the log, or on
+     * a replica disconnects from the primary, and releases the bookings.
+     */
+    @Override
+    public void close() {
+        try {
+            this.requestPermits.tryAcquire(CONCURRENT_REQUESTS, 1, TimeUnit.MINUTES);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.metrics.unregisterMBeans(this.services.property());
+
+        if (this.replicationService.isReplica()) {
+            this.replicationService.follower().unregisterMBean();
+            this.replicationService.follower().close();
+            this.repositories.bookingRepository().close();
+            return;
+        }
+
+        try (DataDirectoryLock _ = this.dataDirectoryLock; BookingRepository _ = this.repositories.bookingRepository()) {
+            try (WriteAheadLog _ = this.writeAheadLog) {
+                this.checkpointer.close();
+            }
+        }
+    }
+
+    private AnalyticsService newAnalyticsService() {
+        return new AnalyticsService(
+                this.repositories.roomRepository(),
+                this.repositories.bookingRepository(),
+                this.bookingArchive,
+                new RoomNightStatistics()
+        );
+    }
+
+    private void addListener(RepositoryListener listener) {
+        this.repositories.roomRepository().addListener(listener);
+        this.repositories.guestRepository().addListener(listener);
+        this.repositories.bookingRepository().addListener(listener);
+    }
+
+    private PropertyServices newServices(String property) {
+        RoomRepository roomRepository = this.repositories.roomRepository();
+        GuestRepository guestRepository = this.repositories.guestRepository();
+        BookingRepository bookingRepository = this.repositories.bookingRepository();
+
+        return new PropertyServices(
+                property,
+                new RoomService(roomRepository, this.metrics),
+                new GuestService(guestRepository, this.metrics),
+                new BookingService(bookingRepository, roomRepository, guestRepository, this.metrics),
+                new BookingArchiveService(this.bookingArchive),
+                new AvailabilityService(roomRepository, bookingRepository),
+                this.analyticsService,
+                new GuestDeduplicationService(guestRepository, bookingRepository),
+                this.replicationService,
+                this.metrics,
+                this.requestPermits
+        );
+    }
+
+    private static LogApplier newRepositories() {
+        RoomRepository roomRepository = new RoomRepository();
+        GuestRepository guestRepository = new GuestRepository();
+        BookingRepository bookingRepository = OFF_HEAP_BOOKINGS
+                ? new BookingRepository(new OffHeapBookingStore(roomRepository, guestRepository))
+                : new BookingRepository();
+
+        return new LogApplier(roomRepository, guestRepository, bookingRepository);
+    }
+}
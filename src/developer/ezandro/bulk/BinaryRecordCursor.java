@@ -0,0 +1,64 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+
+final class BinaryRecordCursor extends RecordCursor {
+    private int recordEnd;
+
+    BinaryRecordCursor(Path file, byte[] bytes, int from, int end, long recordsBefore) {
+        super(file, ImportFormat.BINARY, bytes, from, end, recordsBefore);
+    }
+
+    @Override
+    int nextInt() {
+        this.require(Integer.BYTES);
+        int value = (this.bytes[this.position] & 0xFF) << 24
+                | (this.bytes[this.position + 1] & 0xFF) << 16
+                | (this.bytes[this.position + 2] & 0xFF) << 8
+                | this.bytes[this.position + 3] & 0xFF;
+        this.position += Integer.BYTES;
+        return value;
+    }
+
+    @Override
+    int nextEpochDay() {
+        return this.nextInt();
+    }
+
+    @Override
+    String nextString() {
+        this.require(Short.BYTES);
+        int length = ImportFormat.recordLength(this.bytes, this.position);
+        this.position += Short.BYTES;
+        this.require(length);
+
+        String value = new String(this.bytes, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+        return value;
+    }
+
+    @Override
+    protected boolean beginRecord() {
+        if (this.position + Short.BYTES > this.end
+                || this.position + Short.BYTES + ImportFormat.recordLength(this.bytes, this.position) > this.end) {
+            throw this.error("truncated record");
+        }
+
+        this.recordEnd = this.position + Short.BYTES + ImportFormat.recordLength(this.bytes, this.position);
+        this.position += Short.BYTES;
+        return true;
+    }
+
+    @Override
+    protected void endRecord() {
+        if (this.position != this.recordEnd) {
+            throw this.error("unexpected bytes at the end of the record");
+        }
+    }
+
+    private void require(int length) {
+        if (this.position + length > this.recordEnd) {
+            throw this.error("record is too short");
+        }
+    }
+}
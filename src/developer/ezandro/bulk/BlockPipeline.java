@@ -0,0 +1,96 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+import developer.ezandro.exceptions.ImportException;
+import developer.ezandro.exceptions.PersistenceException;
+
+/**
+ * Parses a file's blocks of whole records on a pool of threads and hands the results back in file order.
+ */
+final class BlockPipeline {
+    private static final int BLOCK_BYTES = 4 << 20;
+
+    private BlockPipeline() {
+    }
+
+    static <T> void run(Path file, int parserThreads, Function<RecordCursor, T> parser, Consumer<T> loader) {
+        ImportFormat format = ImportFormat.forFile(file)
+                .orElseThrow(() -> new ImportException(file, ImportFormat.UNKNOWN_FILE_TYPE));
+        ExecutorService parsers = Executors.newFixedThreadPool(parserThreads);
+        Deque<Future<T>> parsedBlocks = new ArrayDeque<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            byte[] bytes = new byte[BLOCK_BYTES];
+            int length = fill(channel, bytes, 0);
+            int start = format.headerEnd(file, bytes, length);
+            long records = 0;
+
+            while (true) {
+                boolean lastBlock = length < bytes.length;
+                int end = lastBlock ? length : format.recordsEnd(bytes, start, length);
+
+                if (end == start && !lastBlock) {
+                    throw new ImportException(file, format.position(records + 1) + ": record is longer than " + BLOCK_BYTES + " bytes");
+                }
+
+                RecordCursor cursor = format.cursor(file, bytes, start, end, records);
+                parsedBlocks.add(parsers.submit(() -> parser.apply(cursor)));
+                records += cursor.recordCount();
+
+                if (parsedBlocks.size() >= 2 * parserThreads) {
+                    loader.accept(await(file, parsedBlocks.removeFirst()));
+                }
+
+                if (lastBlock) {
+                    break;
+                }
+
+                byte[] nextBytes = new byte[BLOCK_BYTES];
+                System.arraycopy(bytes, end, nextBytes, 0, length - end);
+                length = fill(channel, nextBytes, length - end);
+                bytes = nextBytes;
+                start = 0;
+            }
+
+            while (!parsedBlocks.isEmpty()) {
+                loader.accept(await(file, parsedBlocks.removeFirst()));
+            }
+        } catch (IOException e) {
+            throw new PersistenceException("read", file, e);
+        } finally {
+            parsers.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads from the channel into {@code bytes} after the first {@code length} bytes until the
+     * array is full or the file ends.
+     *
+     * @return the number of bytes now in the array
+     */
+    private static int fill(FileChannel channel, byte[] bytes, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, length, bytes.length - length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+
+        return buffer.position();
+    }
+
+    private static <T> T await(Path file, Future<T> parsedBlock) {
+        try {
+            return parsedBlock.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ImportException(file, e.getCause().toString());
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            throw new ImportException(file, "interrupted");
+        }
+    }
+}
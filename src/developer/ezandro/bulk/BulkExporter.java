@@ -0,0 +1,206 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.exceptions.ExportException;
+import developer.ezandro.exceptions.PersistenceException;
+import developer.ezandro.persistence.BookingArchive;
+import developer.ezandro.repositories.BookingRepository;
+
+/**
+ * Writes bookings to a CSV or binary file (see {@link ImportFormat}) in the layout {@link BulkImporter} reads.
+ * Archived stays come first, one check-out month at a time, followed by the live bookings in id order.
+ */
+public class BulkExporter {
+    private static final int CHUNK_BOOKINGS = 16_384;
+    private static final int MAX_ROW_BYTES = 128;
+    private static final byte[] CSV_HEADER = "id,roomId,guestId,checkInDate,checkOutDate\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int BINARY_RECORD_BYTES = 5 * Integer.BYTES;
+
+    private final BookingRepository bookingRepository;
+    private final BookingArchive bookingArchive;
+    private final int encoderThreads;
+
+    public BulkExporter(BookingRepository bookingRepository, BookingArchive bookingArchive, int encoderThreads) {
+        this.bookingRepository = bookingRepository;
+        this.bookingArchive = bookingArchive;
+        this.encoderThreads = encoderThreads;
+    }
+
+    /**
+     * Exports the bookings with at least one night in {@code [from, to)}; null bounds are open.
+     *
+     * @return the number of bookings written
+     */
+    public long exportBookings(Path file, LocalDate from, LocalDate to) {
+        ImportFormat format = ImportFormat.forFile(file)
+                .orElseThrow(() -> new ExportException(file, ImportFormat.UNKNOWN_FILE_TYPE));
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        ExecutorService encoders = Executors.newFixedThreadPool(this.encoderThreads);
+        Deque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+        Deque<Future<ByteBuffer>> encodedChunks = new ArrayDeque<>();
+        BookingFilter filter = new BookingFilter(null, null, from, to);
+        long exportedBookings = 0;
+
+        for (int i = 0; i < 2 * this.encoderThreads; i++) {
+            freeBuffers.add(ByteBuffer.allocateDirect(CHUNK_BOOKINGS * MAX_ROW_BYTES));
+        }
+
+        try (FileChannel channel = FileChannel.open(temporaryFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Stream<Booking> bookings = Stream.concat(
+                     this.streamArchivedBookings(filter),
+                     this.bookingRepository.streamBookings(0, filter))) {
+            ByteBuffer header = freeBuffers.getFirst();
+            switch (format) {
+                case CSV -> header.put(CSV_HEADER);
+                case BINARY -> header.putInt(ImportFormat.BINARY_MAGIC).putInt(ImportFormat.BINARY_VERSION);
+            }
+            write(channel, header.flip());
+
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking[] chunk = new Booking[CHUNK_BOOKINGS];
+                int size = 0;
+                while (size < chunk.length && iterator.hasNext()) {
+                    chunk[size++] = iterator.next();
+                }
+
+                if (freeBuffers.isEmpty()) {
+                    freeBuffers.add(write(channel, await(file, encodedChunks.removeFirst())));
+                }
+
+                ByteBuffer buffer = freeBuffers.removeFirst();
+                int chunkSize = size;
+                encodedChunks.add(encoders.submit(() -> encode(format, chunk, chunkSize, buffer)));
+                exportedBookings += size;
+            }
+
+            while (!encodedChunks.isEmpty()) {
+                write(channel, await(file, encodedChunks.removeFirst()));
+            }
+
+            channel.force(true);
+        } catch (IOException e) {
+            throw new PersistenceException("write export", temporaryFile, e);
+        } finally {
+            encoders.shutdownNow();
+        }
+
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new PersistenceException("replace export", file, e);
+        }
+
+        return exportedBookings;
+    }
+
+    /**
+     * A booking is archived under its check-out month, so months before the one of
+     * {@code from} hold no booking with a night in the range.
+     */
+    private Stream<Booking> streamArchivedBookings(BookingFilter filter) {
+        NavigableSet<YearMonth> months = this.bookingArchive.months();
+
+        if (Objects.nonNull(filter.from())) {
+            months = months.tailSet(YearMonth.from(filter.from()), true);
+        }
+
+        return months.stream()
+                .flatMap(month -> this.bookingArchive.readBookings(month).stream())
+                .filter(filter);
+    }
+
+    private static ByteBuffer encode(ImportFormat format, Booking[] chunk, int size, ByteBuffer buffer) {
+        buffer.clear();
+
+        for (int i = 0; i < size; i++) {
+            switch (format) {
+                case CSV -> putCsvRow(buffer, chunk[i]);
+                case BINARY -> putBinaryRecord(buffer, chunk[i]);
+            }
+        }
+
+        return buffer.flip();
+    }
+
+    private static void putCsvRow(ByteBuffer buffer, Booking booking) {
+        putInt(buffer, booking.id());
+        buffer.put((byte) ',');
+        putInt(buffer, booking.room().id());
+        buffer.put((byte) ',');
+        putInt(buffer, booking.guest().id());
+        buffer.put((byte) ',');
+        putDate(buffer, booking.checkInDate());
+        buffer.put((byte) ',');
+        putDate(buffer, booking.checkOutDate());
+        buffer.put((byte) '\n');
+    }
+
+    private static void putBinaryRecord(ByteBuffer buffer, Booking booking) {
+        buffer.putShort((short) BINARY_RECORD_BYTES)
+                .putInt(booking.id())
+                .putInt(booking.room().id())
+                .putInt(booking.guest().id())
+                .putInt((int) booking.checkInDate().toEpochDay())
+                .putInt((int) booking.checkOutDate().toEpochDay());
+    }
+
+    /**
+     * Writes a non-negative int in decimal.
+     */
+    private static void putInt(ByteBuffer buffer, int value) {
+        int digits = 1;
+        for (int remaining = value; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+
+        putDigits(buffer, value, digits);
+    }
+
+    private static void putDate(ByteBuffer buffer, LocalDate date) {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            buffer.put(date.toString().getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        putDigits(buffer, date.getYear(), 4);
+        buffer.put((byte) '-');
+        putDigits(buffer, date.getMonthValue(), 2);
+        buffer.put((byte) '-');
+        putDigits(buffer, date.getDayOfMonth(), 2);
+    }
+
+    private static void putDigits(ByteBuffer buffer, int value, int width) {
+        int end = buffer.position() + width;
+        for (int index = end - 1; index >= end - width; index--) {
+            buffer.put(index, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+
+        buffer.position(end);
+    }
+
+    /**
+     * Writes the buffer's content and returns the buffer cleared for reuse.
+     */
+    private static ByteBuffer write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return buffer.clear();
+    }
+
+    private static ByteBuffer await(Path file, Future<ByteBuffer> encodedChunk) {
+        try {
+            return encodedChunk.get();
+        } catch (ExecutionException e) {
+            throw new ExportException(file, e.getCause().toString());
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            throw new ExportException(file, "interrupted");
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.exceptions.ImportException;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+
+/**
+ * Loads rooms, guests and bookings from CSV or binary files (see {@link ImportFormat}). Columns: rooms
+ * {@code id,number,capacity,roomType}, guests {@code id,name,email} and bookings
+ * {@code id,roomId,guestId,checkInDate,checkOutDate}; a bad record leaves the repositories as they were.
+ */
+public class BulkImporter {
+    private final RoomRepository roomRepository;
+    private final GuestRepository guestRepository;
+    private final BookingRepository bookingRepository;
+    private final int parserThreads;
+    private final Map<Integer, Room> importedRooms = new HashMap<>();
+    private final Map<Integer, Guest> importedGuests = new HashMap<>();
+
+    public BulkImporter(
+            RoomRepository roomRepository,
+            GuestRepository guestRepository,
+            BookingRepository bookingRepository,
+            int parserThreads) {
+        this.roomRepository = roomRepository;
+        this.guestRepository = guestRepository;
+        this.bookingRepository = bookingRepository;
+        this.parserThreads = parserThreads;
+    }
+
+    public int importRooms(Path file) {
+        List<SourceRoom> rooms = new ArrayList<>();
+        BlockPipeline.run(file, this.parserThreads, BulkImporter::parseRooms, rooms::addAll);
+
+        Set<Integer> sourceIds = new HashSet<>();
+        Set<String> numbers = new HashSet<>();
+        for (SourceRoom room : rooms) {
+            if (!sourceIds.add(room.sourceId())) {
+                throw error(file, room.position(), "duplicate room id " + room.sourceId());
+            }
+
+            if (!numbers.add(room.number()) || this.roomRepository.findRoomByNumber(room.number()).isPresent()) {
+                throw error(file, room.position(), "room number '" + room.number() + "' already exists");
+            }
+        }
+
+        for (SourceRoom sourceRoom : rooms) {
+            Room room = new Room(sourceRoom.number(), sourceRoom.capacity(), sourceRoom.roomType());
+            this.roomRepository.addRoom(room);
+            this.importedRooms.put(sourceRoom.sourceId(), room);
+        }
+
+        return rooms.size();
+    }
+
+    public int importGuests(Path file) {
+        List<SourceGuest> guests = new ArrayList<>();
+        BlockPipeline.run(file, this.parserThreads, BulkImporter::parseGuests, guests::addAll);
+
+        Set<Integer> sourceIds = new HashSet<>();
+        for (SourceGuest guest : guests) {
+            if (!sourceIds.add(guest.sourceId())) {
+                throw error(file, guest.position(), "duplicate guest id " + guest.sourceId());
+            }
+        }
+
+        for (SourceGuest sourceGuest : guests) {
+            Guest guest = this.guestRepository.findGuestByEmail(sourceGuest.email())
+                    .orElseGet(() -> this.guestRepository.findOrAddGuest(new Guest(sourceGuest.name(), sourceGuest.email())));
+            this.importedGuests.put(sourceGuest.sourceId(), guest);
+        }
+
+        return guests.size();
+    }
+
+    /**
+     * Parsing resolves each booking's room and guest on the parser threads; bookings are
+     * then created in file order and added with {@link BookingRepository#addBookingsInBulk},
+     * which indexes them in one pass. Bookings share one {@link LocalDate} per day.
+     */
+    public int importBookings(Path file) {
+        List<Booking> bookings = new ArrayList<>();
+        Map<Integer, LocalDate> dates = new HashMap<>();
+
+        BlockPipeline.run(file, this.parserThreads, this::parseBookings, block -> {
+            for (int i = 0; i < block.size(); i++) {
+                bookings.add(new Booking(
+                        block.rooms()[i],
+                        block.guests()[i],
+                        dates.computeIfAbsent(block.stays()[2 * i], LocalDate::ofEpochDay),
+                        dates.computeIfAbsent(block.stays()[2 * i + 1], LocalDate::ofEpochDay)
+                ));
+            }
+        });
+
+        this.bookingRepository.addBookingsInBulk(bookings)
+                .ifPresent(conflictingBooking -> {
+                    throw new ImportException(file, String.format(
+                            "the booking of room %s from %s to %s overlaps another booking",
+                            conflictingBooking.room().number(),
+                            conflictingBooking.checkInDate(),
+                            conflictingBooking.checkOutDate()
+                    ));
+                });
+
+        return bookings.size();
+    }
+
+    private static List<SourceRoom> parseRooms(RecordCursor cursor) {
+        List<SourceRoom> rooms = new ArrayList<>(cursor.recordCount());
+
+        while (cursor.nextRecord()) {
+            int sourceId = cursor.nextInt();
+            String number = cursor.nextString().strip();
+            int capacity = cursor.nextInt();
+            String roomType = cursor.nextString().strip();
+
+            if (number.isEmpty()) {
+                throw cursor.error("room number is empty");
+            }
+
+            if (number.length() > Room.MAX_NUMBER_LENGTH) {
+                throw cursor.error("room number is longer than " + Room.MAX_NUMBER_LENGTH + " characters");
+            }
+
+            if (capacity < 1) {
+                throw cursor.error("capacity must be at least 1");
+            }
+
+            rooms.add(new SourceRoom(cursor.record(), sourceId, number, capacity, parseRoomType(cursor, roomType)));
+        }
+
+        return rooms;
+    }
+
+    private static RoomType parseRoomType(RecordCursor cursor, String roomType) {
+        try {
+            return RoomType.valueOf(roomType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException _) {
+            throw cursor.error("unknown room type '" + roomType + "'");
+        }
+    }
+
+    private static List<SourceGuest> parseGuests(RecordCursor cursor) {
+        List<SourceGuest> guests = new ArrayList<>(cursor.recordCount());
+
+        while (cursor.nextRecord()) {
+            int sourceId = cursor.nextInt();
+            String name = cursor.nextString().strip();
+            String email = cursor.nextString().strip();
+
+            if (name.isEmpty()) {
+                throw cursor.error("guest name is empty");
+            }
+
+            if (name.length() > Guest.MAX_NAME_LENGTH) {
+                throw cursor.error("guest name is longer than " + Guest.MAX_NAME_LENGTH + " characters");
+            }
+
+            if (email.length() > Guest.MAX_EMAIL_LENGTH) {
+                throw cursor.error("email is longer than " + Guest.MAX_EMAIL_LENGTH + " characters");
+            }
+
+            if (!email.matches(".+@.+")) {
+                throw cursor.error("invalid email '" + email + "'");
+            }
+
+            guests.add(new SourceGuest(cursor.record(), sourceId, name, email));
+        }
+
+        return guests;
+    }
+
+    private BookingBlock parseBookings(RecordCursor cursor) {
+        Room[] rooms = new Room[cursor.recordCount()];
+        Guest[] guests = new Guest[cursor.recordCount()];
+        int[] stays = new int[2 * cursor.recordCount()];
+        int size = 0;
+
+        while (cursor.nextRecord()) {
+            cursor.nextInt();
+            int roomId = cursor.nextInt();
+            int guestId = cursor.nextInt();
+            int checkIn = cursor.nextEpochDay();
+            int checkOut = cursor.nextEpochDay();
+
+            rooms[size] = this.findRoom(roomId);
+            if (Objects.isNull(rooms[size])) {
+                throw cursor.error("unknown room id " + roomId);
+            }
+
+            guests[size] = this.findGuest(guestId);
+            if (Objects.isNull(guests[size])) {
+                throw cursor.error("unknown guest id " + guestId);
+            }
+
+            if (checkOut <= checkIn) {
+                throw cursor.error("check-out date must be after check-in date");
+            }
+
+            if (checkOut - checkIn > Booking.MAX_NIGHTS) {
+                throw cursor.error("a stay can last at most " + Booking.MAX_NIGHTS + " nights");
+            }
+
+            stays[2 * size] = checkIn;
+            stays[2 * size + 1] = checkOut;
+            size++;
+        }
+
+        return new BookingBlock(rooms, guests, stays, size);
+    }
+
+    private Room findRoom(int sourceId) {
+        if (!this.importedRooms.isEmpty()) {
+            return this.importedRooms.get(sourceId);
+        }
+
+        return this.roomRepository.existsById(sourceId) ? this.roomRepository.findRoomById(sourceId) : null;
+    }
+
+    private Guest findGuest(int sourceId) {
+        if (!this.importedGuests.isEmpty()) {
+            return this.importedGuests.get(sourceId);
+        }
+
+        return this.guestRepository.existsById(sourceId) ? this.guestRepository.findGuestById(sourceId) : null;
+    }
+
+    private static ImportException error(Path file, long record, String message) {
+        return new ImportException(file, ImportFormat.forFile(file).orElseThrow().position(record) + ": " + message);
+    }
+
+    private record SourceRoom(long position, int sourceId, String number, int capacity, RoomType roomType) {
+    }
+
+    private record SourceGuest(long position, int sourceId, String name, String email) {
+    }
+
+    /**
+     * The bookings parsed from one block: room, guest and check-in and check-out epoch days
+     * of booking {@code i} are at {@code i} and {@code 2i, 2i + 1}.
+     */
+    private record BookingBlock(Room[] rooms, Guest[] guests, int[] stays, int size) {
+    }
+}
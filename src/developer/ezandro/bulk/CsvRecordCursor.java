@@ -0,0 +1,187 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+
+final class CsvRecordCursor extends RecordCursor {
+    private static final int DATE_LENGTH = 10;
+
+    private boolean atLineEnd;
+
+    CsvRecordCursor(Path file, byte[] bytes, int from, int end, long recordsBefore) {
+        super(file, ImportFormat.CSV, bytes, from, end, recordsBefore);
+    }
+
+    @Override
+    int nextInt() {
+        this.startField();
+        int start = this.position;
+        long value = 0;
+
+        while (this.position < this.end && isDigit(this.bytes[this.position]) && value <= Integer.MAX_VALUE) {
+            value = value * 10 + (this.bytes[this.position++] - '0');
+        }
+
+        if (this.position == start || value > Integer.MAX_VALUE || !this.atFieldEnd()) {
+            this.position = start;
+            throw this.error("invalid number '" + this.fieldText() + "'");
+        }
+
+        this.finishField();
+        return (int) value;
+    }
+
+    @Override
+    int nextEpochDay() {
+        this.startField();
+        int start = this.position;
+
+        if (this.end - start >= DATE_LENGTH && this.bytes[start + 4] == '-' && this.bytes[start + 7] == '-') {
+            int year = this.digits(start, 4);
+            int month = this.digits(start + 5, 2);
+            int day = this.digits(start + 8, 2);
+            this.position = start + DATE_LENGTH;
+
+            if (year >= 0 && month >= 0 && day >= 0 && this.atFieldEnd()) {
+                try {
+                    LocalDate date = LocalDate.of(year, month, day);
+                    this.finishField();
+                    return (int) date.toEpochDay();
+                } catch (DateTimeException _) {
+                    // reported below
+                }
+            }
+        }
+
+        this.position = start;
+        throw this.error("invalid date '" + this.fieldText() + "'");
+    }
+
+    @Override
+    String nextString() {
+        this.startField();
+
+        if (this.position < this.end && this.bytes[this.position] == '"') {
+            return this.nextQuotedString();
+        }
+
+        int start = this.position;
+        while (!this.atFieldEnd()) {
+            this.position++;
+        }
+
+        String value = new String(this.bytes, start, this.position - start, StandardCharsets.UTF_8);
+        this.finishField();
+        return value;
+    }
+
+    @Override
+    protected boolean beginRecord() {
+        this.atLineEnd = false;
+
+        if (this.atFieldEnd() && this.bytes[this.position] != ',') {
+            this.skipLineBreak();
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    protected void endRecord() {
+        if (!this.atLineEnd) {
+            throw this.error("too many fields");
+        }
+
+        this.skipLineBreak();
+    }
+
+    private String nextQuotedString() {
+        ByteArrayOutputStream value = new ByteArrayOutputStream();
+        this.position++;
+
+        while (true) {
+            if (this.position == this.end || this.bytes[this.position] == '\n') {
+                throw this.error("unterminated quoted field");
+            }
+
+            byte next = this.bytes[this.position++];
+
+            if (next != '"') {
+                value.write(next);
+            } else if (this.position < this.end && this.bytes[this.position] == '"') {
+                value.write('"');
+                this.position++;
+            } else {
+                break;
+            }
+        }
+
+        if (!this.atFieldEnd()) {
+            throw this.error("unexpected text after a quoted field");
+        }
+
+        this.finishField();
+        return value.toString(StandardCharsets.UTF_8);
+    }
+
+    private void startField() {
+        if (this.atLineEnd) {
+            throw this.error("missing field");
+        }
+    }
+
+    private void finishField() {
+        if (this.position < this.end && this.bytes[this.position] == ',') {
+            this.position++;
+        } else {
+            this.atLineEnd = true;
+        }
+    }
+
+    private boolean atFieldEnd() {
+        if (this.position == this.end) {
+            return true;
+        }
+
+        byte next = this.bytes[this.position];
+        return next == ',' || next == '\n' || next == '\r';
+    }
+
+    private void skipLineBreak() {
+        if (this.position < this.end && this.bytes[this.position] == '\r') {
+            this.position++;
+        }
+
+        if (this.position < this.end && this.bytes[this.position] == '\n') {
+            this.position++;
+        }
+    }
+
+    private String fieldText() {
+        int fieldEnd = this.position;
+        while (fieldEnd < this.end && this.bytes[fieldEnd] != ',' && this.bytes[fieldEnd] != '\n' && this.bytes[fieldEnd] != '\r') {
+            fieldEnd++;
+        }
+        return new String(this.bytes, this.position, fieldEnd - this.position, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the value of {@code count} decimal digits, or -1 if one of them is not a digit.
+     */
+    private int digits(int from, int count) {
+        int value = 0;
+
+        for (int i = from; i < from + count; i++) {
+            if (!isDigit(this.bytes[i])) {
+                return -1;
+            }
+            value = value * 10 + (this.bytes[i] - '0');
+        }
+
+        return value;
+    }
+
+    private static boolean isDigit(byte value) {
+        return value >= '0' && value <= '9';
+    }
+}
@@ -0,0 +1,140 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+import developer.ezandro.exceptions.ImportException;
+
+/**
+ * File formats of a bulk import or export, chosen by extension: {@code .csv} with a header line, or
+ * {@code .bin}, length-prefixed records of big-endian fields.
+ */
+enum ImportFormat {
+    CSV,
+    BINARY;
+
+    static final int BINARY_MAGIC = 0x48494D50;
+    static final int BINARY_VERSION = 1;
+    static final int BINARY_HEADER_BYTES = 2 * Integer.BYTES;
+
+    static final String UNKNOWN_FILE_TYPE = "unknown file type (expected .csv or .bin)";
+
+    static Optional<ImportFormat> forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".csv")) {
+            return Optional.of(CSV);
+        }
+
+        if (name.endsWith(".bin")) {
+            return Optional.of(BINARY);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns where the first record starts, after the header line or the binary header.
+     */
+    int headerEnd(Path file, byte[] bytes, int length) {
+        return switch (this) {
+            case CSV -> {
+                int lineEnd = indexOf(bytes, (byte) '\n', 0, length);
+
+                if (lineEnd < 0 && length == bytes.length) {
+                    throw new ImportException(file, "header line is too long");
+                }
+
+                yield lineEnd < 0 ? length : lineEnd + 1;
+            }
+            case BINARY -> {
+                ByteBuffer header = ByteBuffer.wrap(bytes, 0, length);
+
+                if (length < BINARY_HEADER_BYTES || header.getInt() != BINARY_MAGIC || header.getInt() != BINARY_VERSION) {
+                    throw new ImportException(file, "unknown binary format");
+                }
+
+                yield BINARY_HEADER_BYTES;
+            }
+        };
+    }
+
+    /**
+     * Returns the end of the last complete record in {@code [from, length)}, or {@code from}
+     * if there is none.
+     */
+    int recordsEnd(byte[] bytes, int from, int length) {
+        return switch (this) {
+            case CSV -> {
+                int end = length;
+                while (end > from && bytes[end - 1] != '\n') {
+                    end--;
+                }
+                yield end;
+            }
+            case BINARY -> {
+                int end = from;
+                while (end + Short.BYTES <= length && end + Short.BYTES + recordLength(bytes, end) <= length) {
+                    end += Short.BYTES + recordLength(bytes, end);
+                }
+                yield end;
+            }
+        };
+    }
+
+    /**
+     * Counts the records in {@code [from, end)}; a last line without a line break counts.
+     */
+    int countRecords(byte[] bytes, int from, int end) {
+        int records = 0;
+
+        switch (this) {
+            case CSV -> {
+                for (int i = from; i < end; i++) {
+                    if (bytes[i] == '\n') {
+                        records++;
+                    }
+                }
+                if (end > from && bytes[end - 1] != '\n') {
+                    records++;
+                }
+            }
+            case BINARY -> {
+                for (int i = from; i + Short.BYTES <= end; i += Short.BYTES + recordLength(bytes, i)) {
+                    records++;
+                }
+            }
+        }
+
+        return records;
+    }
+
+    RecordCursor cursor(Path file, byte[] bytes, int from, int end, long recordsBefore) {
+        return switch (this) {
+            case CSV -> new CsvRecordCursor(file, bytes, from, end, recordsBefore);
+            case BINARY -> new BinaryRecordCursor(file, bytes, from, end, recordsBefore);
+        };
+    }
+
+    /**
+     * Describes where a record is for error messages: its line in a CSV file (the header is
+     * line 1), or its number in a binary file.
+     */
+    String position(long record) {
+        return switch (this) {
+            case CSV -> "line " + (record + 1);
+            case BINARY -> "record " + record;
+        };
+    }
+
+    static int recordLength(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 8 | bytes[offset + 1] & 0xFF;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
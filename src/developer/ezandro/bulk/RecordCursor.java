@@ -0,0 +1,82 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+import developer.ezandro.exceptions.ImportException;
+
+/**
+ * Reads the records of one block of an import file field by field, straight from the
+ * block's bytes. A malformed field is reported with the file and the record's position.
+ */
+abstract sealed class RecordCursor permits CsvRecordCursor, BinaryRecordCursor {
+    protected final byte[] bytes;
+    protected final int end;
+    protected int position;
+    private final Path file;
+    private final ImportFormat format;
+    private final int recordCount;
+    private long record;
+    private boolean inRecord;
+
+    RecordCursor(Path file, ImportFormat format, byte[] bytes, int from, int end, long recordsBefore) {
+        this.file = file;
+        this.format = format;
+        this.bytes = bytes;
+        this.position = from;
+        this.end = end;
+        this.recordCount = format.countRecords(bytes, from, end);
+        this.record = recordsBefore;
+    }
+
+    /**
+     * Returns the number of records in the block, blank lines included.
+     */
+    int recordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Moves to the next record, checking that every field of the current one was read.
+     *
+     * @return false once the block has no more records
+     */
+    boolean nextRecord() {
+        if (this.inRecord) {
+            this.endRecord();
+        }
+
+        while (this.position < this.end) {
+            this.record++;
+
+            if (this.beginRecord()) {
+                this.inRecord = true;
+                return true;
+            }
+        }
+
+        this.inRecord = false;
+        return false;
+    }
+
+    long record() {
+        return this.record;
+    }
+
+    ImportException error(String message) {
+        return new ImportException(this.file, this.format.position(this.record) + ": " + message);
+    }
+
+    abstract int nextInt();
+
+    abstract int nextEpochDay();
+
+    abstract String nextString();
+
+    /**
+     * Starts reading the record at the current position.
+     *
+     * @return false if the record is blank and was skipped
+     */
+    protected abstract boolean beginRecord();
+
+    protected abstract void endRecord();
+}
@@ -7,10 +7,21 @@ public record Booking(
         Room room,
         Guest guest,
         LocalDate checkInDate,
-        LocalDate checkOutDate) {
+        LocalDate checkOutDate,
+        long nightlyRateCents) {
+    public static final int MAX_NIGHTS = 366;
+
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger(1);
 
     public Booking(Room room, Guest guest, LocalDate checkInDate, LocalDate checkOutDate) {
-        this(ID_GENERATOR.getAndIncrement(), room, guest, checkInDate, checkOutDate);
+        this(ID_GENERATOR.getAndIncrement(), room, guest, checkInDate, checkOutDate, room.roomType().getNightlyRateCents());
+    }
+
+    public static void ensureIdGeneratorAbove(int id) {
+        ID_GENERATOR.accumulateAndGet(id + 1, Math::max);
+    }
+
+    public static int lastIssuedId() {
+        return ID_GENERATOR.get() - 1;
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package developer.ezandro.entities;
+
+import module java.base;
+
+/**
+ * Selects bookings by room, guest and stay period; null fields match everything. The
+ * period matches bookings with at least one night in {@code [from, to)}.
+ */
+public record BookingFilter(
+        Integer roomId,
+        Integer guestId,
+        LocalDate from,
+        LocalDate to) implements Predicate<Booking> {
+    public static final BookingFilter ALL = new BookingFilter(null, null, null, null);
+
+    @Override
+    public boolean test(Booking booking) {
+        return (Objects.isNull(this.roomId) || booking.room().id() == this.roomId)
+                && (Objects.isNull(this.guestId) || booking.guest().id() == this.guestId)
+                && (Objects.isNull(this.from) || booking.checkOutDate().isAfter(this.from))
+                && (Objects.isNull(this.to) || booking.checkInDate().isBefore(this.to));
+    }
+}
@@ -0,0 +1,10 @@
+package developer.ezandro.entities;
+
+import module java.base;
+
+public record BookingRequest(
+        int roomId,
+        int guestId,
+        LocalDate checkInDate,
+        LocalDate checkOutDate) {
+}
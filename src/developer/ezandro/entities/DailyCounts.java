@@ -0,0 +1,26 @@
+package developer.ezandro.entities;
+
+import module java.base;
+
+/**
+ * Front-desk counts for one day, per room type: rooms occupied that night, stays that
+ * start that day and stays that end that day.
+ */
+public record DailyCounts(LocalDate date, Map<RoomType, Counts> countsByRoomType) {
+    public record Counts(long roomsSold, long arrivals, long departures) {
+    }
+
+    public Counts total() {
+        long roomsSold = 0;
+        long arrivals = 0;
+        long departures = 0;
+
+        for (Counts counts : this.countsByRoomType.values()) {
+            roomsSold += counts.roomsSold();
+            arrivals += counts.arrivals();
+            departures += counts.departures();
+        }
+
+        return new Counts(roomsSold, arrivals, departures);
+    }
+}
@@ -6,9 +6,20 @@ public record Guest(
         int id,
         String name,
         String email) {
+    public static final int MAX_NAME_LENGTH = 100;
+    public static final int MAX_EMAIL_LENGTH = 254;
+
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger(1);
 
     public Guest(String name, String email) {
         this(ID_GENERATOR.getAndIncrement(), name, email);
     }
+
+    public static void ensureIdGeneratorAbove(int id) {
+        ID_GENERATOR.accumulateAndGet(id + 1, Math::max);
+    }
+
+    public static int lastIssuedId() {
+        return ID_GENERATOR.get() - 1;
+    }
 }
\ No newline at end of file
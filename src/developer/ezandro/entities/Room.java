@@ -7,9 +7,19 @@ public record Room(
         String number,
         int capacity,
         RoomType roomType) {
+    public static final int MAX_NUMBER_LENGTH = 20;
+
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger(1);
 
     public Room(String number, int capacity, RoomType roomType) {
         this(ID_GENERATOR.getAndIncrement(), number, capacity, roomType);
     }
+
+    public static void ensureIdGeneratorAbove(int id) {
+        ID_GENERATOR.accumulateAndGet(id + 1, Math::max);
+    }
+
+    public static int lastIssuedId() {
+        return ID_GENERATOR.get() - 1;
+    }
 }
\ No newline at end of file
@@ -3,20 +3,26 @@ package developer.ezandro.entities;
 import developer.ezandro.exceptions.RoomTypeNotFoundException;
 
 public enum RoomType {
-    SINGLE(1),
-    DOUBLE(2),
-    SUITE(3);
+    SINGLE(1, 90_00),
+    DOUBLE(2, 140_00),
+    SUITE(3, 320_00);
 
     private final int optionNumber;
+    private final long nightlyRateCents;
 
-    RoomType(int optionNumber) {
+    RoomType(int optionNumber, long nightlyRateCents) {
         this.optionNumber = optionNumber;
+        this.nightlyRateCents = nightlyRateCents;
     }
 
     public int getOptionNumber() {
         return this.optionNumber;
     }
 
+    public long getNightlyRateCents() {
+        return this.nightlyRateCents;
+    }
+
     public static RoomType fromOptionNumber(int optionNumber) {
         for (RoomType roomType : RoomType.values()) {
             if (roomType.getOptionNumber() == optionNumber) {
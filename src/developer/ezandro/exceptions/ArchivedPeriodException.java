@@ -0,0 +1,12 @@
+package developer.ezandro.exceptions;
+
+import module java.base;
+
+public class ArchivedPeriodException extends RuntimeException {
+    public ArchivedPeriodException(YearMonth firstOpenMonth) {
+        super(String.format(
+                "%nERROR: Nights before %s may be archived and can no longer be booked.",
+                firstOpenMonth
+        ));
+    }
+}
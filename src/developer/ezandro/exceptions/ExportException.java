@@ -0,0 +1,9 @@
+package developer.ezandro.exceptions;
+
+import module java.base;
+
+public class ExportException extends RuntimeException {
+    public ExportException(Path file, String message) {
+        super(String.format("%nERROR: Could not export to '%s': %s.", file, message));
+    }
+}
@@ -0,0 +1,9 @@
+package developer.ezandro.exceptions;
+
+import module java.base;
+
+public class ImportException extends RuntimeException {
+    public ImportException(Path file, String message) {
+        super(String.format("%nERROR: Could not import '%s': %s.", file, message));
+    }
+}
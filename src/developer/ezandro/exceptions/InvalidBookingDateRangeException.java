@@ -4,4 +4,8 @@ public class InvalidBookingDateRangeException extends RuntimeException {
     public InvalidBookingDateRangeException() {
         super("%nERROR: Check-out date must be after check-in date.");
     }
+
+    public InvalidBookingDateRangeException(int maxNights) {
+        super(String.format("%nERROR: A stay can last at most %d nights.", maxNights));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package developer.ezandro.exceptions;
+
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(String.format("%nERROR: %s", message));
+    }
+}
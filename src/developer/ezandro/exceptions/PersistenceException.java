@@ -0,0 +1,9 @@
+package developer.ezandro.exceptions;
+
+import module java.base;
+
+public class PersistenceException extends RuntimeException {
+    public PersistenceException(String operation, Path file, Throwable cause) {
+        super(String.format("%nERROR: Could not %s '%s'.", operation, file), cause);
+    }
+}
@@ -0,0 +1,7 @@
+package developer.ezandro.exceptions;
+
+public class PropertyNotFoundException extends RuntimeException {
+    public PropertyNotFoundException(String property) {
+        super(String.format("%nERROR: Property '%s' not found.", property));
+    }
+}
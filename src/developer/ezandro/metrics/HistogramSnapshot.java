@@ -0,0 +1,59 @@
+package developer.ezandro.metrics;
+
+/**
+ * The counts of a {@link LatencyHistogram} at one moment.
+ */
+public record HistogramSnapshot(long[] counts) {
+    public long count() {
+        long count = 0;
+        for (long bucketCount : this.counts) {
+            count += bucketCount;
+        }
+        return count;
+    }
+
+    public long totalNanos() {
+        long totalNanos = 0;
+        for (int bucket = 0; bucket < this.counts.length; bucket++) {
+            long middle = (LatencyHistogram.lowestValue(bucket) + LatencyHistogram.highestValue(bucket)) / 2;
+            totalNanos += this.counts[bucket] * middle;
+        }
+        return totalNanos;
+    }
+
+    public long meanNanos() {
+        long count = this.count();
+        return count == 0 ? 0 : this.totalNanos() / count;
+    }
+
+    /**
+     * The latency that {@code percentile} percent of the recorded operations did not exceed.
+     */
+    public long percentileNanos(double percentile) {
+        long count = this.count();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < this.counts.length; bucket++) {
+            seen += this.counts[bucket];
+            if (seen >= rank) {
+                return LatencyHistogram.highestValue(bucket);
+            }
+        }
+
+        return this.maxNanos();
+    }
+
+    public long maxNanos() {
+        for (int bucket = this.counts.length - 1; bucket >= 0; bucket--) {
+            if (this.counts[bucket] > 0) {
+                return LatencyHistogram.highestValue(bucket);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,61 @@
+package developer.ezandro.metrics;
+
+import module java.base;
+
+/**
+ * Log-linear latency histogram in nanoseconds, accurate to about 3%, that never allocates when recording.
+ */
+public final class LatencyHistogram {
+    static final long MAX_NANOS = (1L << 40) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = bucket(MAX_NANOS) + 1;
+    private static final int STRIPES = Math.min(16, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+
+    public LatencyHistogram() {
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.clamp(nanos, 0, MAX_NANOS);
+        this.stripes[(int) Thread.currentThread().threadId() & (STRIPES - 1)].getAndIncrement(bucket(value));
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+
+        for (AtomicLongArray stripe : this.stripes) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket] += stripe.get(bucket);
+            }
+        }
+
+        return new HistogramSnapshot(counts);
+    }
+
+    static int bucket(long value) {
+        int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+
+        return (long) (bucket & (SUB_BUCKETS - 1) | SUB_BUCKETS) << bucketShift(bucket);
+    }
+
+    static long highestValue(int bucket) {
+        return bucket < 2 * SUB_BUCKETS ? bucket : lowestValue(bucket) + (1L << bucketShift(bucket)) - 1;
+    }
+
+    private static int bucketShift(int bucket) {
+        return (bucket >>> SUB_BUCKET_BITS) - 1;
+    }
+}
@@ -0,0 +1,126 @@
+package developer.ezandro.metrics;
+
+import module java.base;
+
+/**
+ * Latencies and outcomes of one service operation. Callers take {@link System#nanoTime()}
+ * before the operation and pass it to {@link #completed} or {@link #failed} after it.
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final String name;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    /**
+     * Operations that ended other than {@link Outcome#COMPLETED}, by outcome ordinal; the
+     * completed ones are the rest of the histogram's count.
+     */
+    private final LongAdder[] outcomes = new LongAdder[OUTCOMES.length];
+
+    public OperationMetrics(String name) {
+        this.name = name;
+        for (int i = 1; i < OUTCOMES.length; i++) {
+            this.outcomes[i] = new LongAdder();
+        }
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    public void completed(long startNanos) {
+        this.latencies.record(System.nanoTime() - startNanos);
+    }
+
+    public void failed(long startNanos, RuntimeException exception) {
+        this.record(startNanos, Outcome.of(exception));
+    }
+
+    public void record(long startNanos, Outcome outcome) {
+        this.latencies.record(System.nanoTime() - startNanos);
+        if (outcome != Outcome.COMPLETED) {
+            this.outcomes[outcome.ordinal()].increment();
+        }
+    }
+
+    public HistogramSnapshot latencies() {
+        return this.latencies.snapshot();
+    }
+
+    public long count(Outcome outcome) {
+        if (outcome != Outcome.COMPLETED) {
+            return this.outcomes[outcome.ordinal()].sum();
+        }
+
+        long completed = this.latencies.snapshot().count();
+        for (int i = 1; i < OUTCOMES.length; i++) {
+            completed -= this.outcomes[i].sum();
+        }
+        return Math.max(0, completed);
+    }
+
+    @Override
+    public long getCount() {
+        return this.latencies.snapshot().count();
+    }
+
+    @Override
+    public long getConflicts() {
+        return this.count(Outcome.CONFLICT);
+    }
+
+    @Override
+    public long getRejections() {
+        return this.count(Outcome.REJECTED);
+    }
+
+    @Override
+    public long getNotFound() {
+        return this.count(Outcome.NOT_FOUND);
+    }
+
+    @Override
+    public long getFailures() {
+        return this.count(Outcome.FAILED);
+    }
+
+    @Override
+    public double getConflictRatio() {
+        return ratio(this.getConflicts(), this.getCount());
+    }
+
+    @Override
+    public double getRejectionRatio() {
+        return ratio(this.getRejections(), this.getCount());
+    }
+
+    @Override
+    public long getMeanNanos() {
+        return this.latencies.snapshot().meanNanos();
+    }
+
+    @Override
+    public long getMedianNanos() {
+        return this.latencies.snapshot().percentileNanos(50);
+    }
+
+    @Override
+    public long get99thPercentileNanos() {
+        return this.latencies.snapshot().percentileNanos(99);
+    }
+
+    @Override
+    public long get999thPercentileNanos() {
+        return this.latencies.snapshot().percentileNanos(99.9);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return this.latencies.snapshot().maxNanos();
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+}
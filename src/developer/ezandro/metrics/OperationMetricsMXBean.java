@@ -0,0 +1,31 @@
+package developer.ezandro.metrics;
+
+/**
+ * The JMX view of an {@link OperationMetrics}: counts since startup and latencies in
+ * nanoseconds.
+ */
+public interface OperationMetricsMXBean {
+    long getCount();
+
+    long getConflicts();
+
+    long getRejections();
+
+    long getNotFound();
+
+    long getFailures();
+
+    double getConflictRatio();
+
+    double getRejectionRatio();
+
+    long getMeanNanos();
+
+    long getMedianNanos();
+
+    long get99thPercentileNanos();
+
+    long get999thPercentileNanos();
+
+    long getMaxNanos();
+}
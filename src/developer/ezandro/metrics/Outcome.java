@@ -0,0 +1,40 @@
+package developer.ezandro.metrics;
+
+import developer.ezandro.exceptions.ArchivedPeriodException;
+import developer.ezandro.exceptions.BookingNotFoundException;
+import developer.ezandro.exceptions.GuestNotFoundException;
+import developer.ezandro.exceptions.InvalidBookingDateRangeException;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.exceptions.RoomAlreadyBookedException;
+import developer.ezandro.exceptions.RoomAlreadyExistsException;
+import developer.ezandro.exceptions.RoomNotFoundException;
+
+/**
+ * How an operation ended: a conflict is a room already booked (or a room number already
+ * taken), a rejection a request with invalid dates.
+ */
+public enum Outcome {
+    COMPLETED,
+    CONFLICT,
+    REJECTED,
+    NOT_FOUND,
+    FAILED;
+
+    public static Outcome of(RuntimeException exception) {
+        if (exception instanceof RoomAlreadyBookedException || exception instanceof RoomAlreadyExistsException) {
+            return CONFLICT;
+        }
+
+        if (exception instanceof InvalidBookingDateRangeException || exception instanceof ArchivedPeriodException
+                || exception instanceof InvalidRequestException) {
+            return REJECTED;
+        }
+
+        if (exception instanceof RoomNotFoundException || exception instanceof GuestNotFoundException
+                || exception instanceof BookingNotFoundException) {
+            return NOT_FOUND;
+        }
+
+        return FAILED;
+    }
+}
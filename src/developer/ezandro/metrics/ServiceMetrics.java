@@ -0,0 +1,79 @@
+package developer.ezandro.metrics;
+
+import module java.base;
+import module java.management;
+
+/**
+ * The timed operations of one property's services.
+ */
+public record ServiceMetrics(
+        OperationMetrics createBooking,
+        OperationMetrics createBookings,
+        OperationMetrics rescheduleBooking,
+        OperationMetrics cancelBooking,
+        OperationMetrics conflictCheck,
+        OperationMetrics findBookingById,
+        OperationMetrics findRoomById,
+        OperationMetrics findGuestById) {
+    private static final System.Logger LOGGER = System.getLogger(ServiceMetrics.class.getName());
+    private static final String DOMAIN = "developer.ezandro";
+
+    public ServiceMetrics() {
+        this(
+                new OperationMetrics("createBooking"),
+                new OperationMetrics("createBookings"),
+                new OperationMetrics("rescheduleBooking"),
+                new OperationMetrics("cancelBooking"),
+                new OperationMetrics("conflictCheck"),
+                new OperationMetrics("findBookingById"),
+                new OperationMetrics("findRoomById"),
+                new OperationMetrics("findGuestById")
+        );
+    }
+
+    public List<OperationMetrics> operations() {
+        return List.of(
+                this.createBooking,
+                this.createBookings,
+                this.rescheduleBooking,
+                this.cancelBooking,
+                this.conflictCheck,
+                this.findBookingById,
+                this.findRoomById,
+                this.findGuestById
+        );
+    }
+
+    /**
+     * Publishes every operation on the platform MBean server as
+     * {@code developer.ezandro:type=Operation,property=<code>,name=<operation>}. The hotel
+     * runs on without them if they cannot be registered.
+     */
+    public void registerMBeans(String property) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        for (OperationMetrics operation : this.operations()) {
+            try {
+                server.registerMBean(operation, objectName(property, operation));
+            } catch (JMException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Could not publish the metrics of " + operation.name() + ".", e);
+            }
+        }
+    }
+
+    public void unregisterMBeans(String property) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        for (OperationMetrics operation : this.operations()) {
+            try {
+                server.unregisterMBean(objectName(property, operation));
+            } catch (JMException _) {
+                // never registered
+            }
+        }
+    }
+
+    private static ObjectName objectName(String property, OperationMetrics operation) throws MalformedObjectNameException {
+        return new ObjectName(DOMAIN + ":type=Operation,property=" + property + ",name=" + operation.name());
+    }
+}
@@ -0,0 +1,185 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.exceptions.PersistenceException;
+import developer.ezandro.repositories.MonthArchive;
+import developer.ezandro.repositories.RoomRepository;
+
+/**
+ * One gzip-compressed file per past check-out month, holding its bookings with their guests as they were.
+ */
+public class BookingArchive implements MonthArchive {
+    private static final int MAGIC = 0x48415243;
+    private static final int VERSION = 2;
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final String FILE_SUFFIX = ".bookings.gz";
+
+    private final Path directory;
+    private final RoomRepository roomRepository;
+
+    public BookingArchive(Path directory, RoomRepository roomRepository) {
+        this.directory = directory;
+        this.roomRepository = roomRepository;
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new PersistenceException("create archive directory", directory, e);
+        }
+    }
+
+    /**
+     * Writes the month's file with the bookings added next to the old one and forces it to
+     * disk; committing atomically replaces the old file with it. A booking archived again
+     * under the same id replaces the earlier copy, so archiving a month twice after a crash
+     * is harmless.
+     */
+    @Override
+    public synchronized Prepared prepare(YearMonth month, List<Booking> bookings) {
+        NavigableMap<Integer, Booking> archivedBookings = new TreeMap<>();
+        this.readBookings(month).forEach(booking -> archivedBookings.put(booking.id(), booking));
+        bookings.forEach(booking -> archivedBookings.put(booking.id(), booking));
+
+        Path file = this.monthFile(month);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporaryFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            GZIPOutputStream compressed = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES);
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(compressed, BUFFER_BYTES));
+
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(archivedBookings.size());
+            output.writeInt(archivedBookings.lastKey());
+
+            for (Booking booking : archivedBookings.values()) {
+                output.writeInt(booking.id());
+                output.writeInt(booking.room().id());
+                output.writeInt((int) booking.checkInDate().toEpochDay());
+                output.writeInt((int) booking.checkOutDate().toEpochDay());
+                output.writeInt(booking.guest().id());
+                output.writeLong(booking.nightlyRateCents());
+                output.writeUTF(booking.guest().name());
+                output.writeUTF(booking.guest().email());
+            }
+
+            output.flush();
+            compressed.finish();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new PersistenceException("write archive", temporaryFile, e);
+        }
+
+        return new PreparedMonth(temporaryFile, file);
+    }
+
+    /**
+     * Returns the bookings archived under the given check-out month, in id order.
+     */
+    public List<Booking> readBookings(YearMonth month) {
+        Path file = this.monthFile(month);
+
+        if (Files.notExists(file)) {
+            return List.of();
+        }
+
+        try (DataInputStream input = open(file)) {
+            int bookingCount = input.readInt();
+            input.readInt();
+            List<Booking> bookings = new ArrayList<>(bookingCount);
+
+            for (int i = 0; i < bookingCount; i++) {
+                int id = input.readInt();
+                int roomId = input.readInt();
+                LocalDate checkIn = LocalDate.ofEpochDay(input.readInt());
+                LocalDate checkOut = LocalDate.ofEpochDay(input.readInt());
+                int guestId = input.readInt();
+                long nightlyRateCents = input.readLong();
+                Guest guest = new Guest(guestId, input.readUTF(), input.readUTF());
+                bookings.add(new Booking(id, this.roomRepository.findRoomById(roomId), guest, checkIn, checkOut, nightlyRateCents));
+            }
+
+            return bookings;
+        } catch (IOException e) {
+            throw new PersistenceException("read archive", file, e);
+        }
+    }
+
+    public NavigableSet<YearMonth> months() {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files
+                    .map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(FILE_SUFFIX))
+                    .map(name -> YearMonth.parse(name.substring(0, name.length() - FILE_SUFFIX.length())))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        } catch (IOException e) {
+            throw new PersistenceException("list archives in", this.directory, e);
+        }
+    }
+
+    /**
+     * Returns the highest booking id in the archive, or 0 if it is empty, reading only the
+     * start of each file. Archived ids are not in the snapshot, so recovery needs this to
+     * keep new bookings from reusing them.
+     */
+    public int highestBookingId() {
+        int highestId = 0;
+
+        for (YearMonth month : this.months()) {
+            Path file = this.monthFile(month);
+
+            try (DataInputStream input = open(file)) {
+                input.readInt();
+                highestId = Math.max(highestId, input.readInt());
+            } catch (IOException e) {
+                throw new PersistenceException("read archive", file, e);
+            }
+        }
+
+        return highestId;
+    }
+
+    /**
+     * Opens the file and checks its header, leaving the stream at the booking count.
+     */
+    private static DataInputStream open(Path file) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_BYTES), BUFFER_BYTES));
+
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            input.close();
+            throw new PersistenceException("read archive (unknown format)", file, null);
+        }
+
+        return input;
+    }
+
+    private Path monthFile(YearMonth month) {
+        return this.directory.resolve(month + FILE_SUFFIX);
+    }
+
+    private record PreparedMonth(Path temporaryFile, Path file) implements Prepared {
+        @Override
+        public void commit() {
+            try {
+                Files.move(this.temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new PersistenceException("replace archive", this.file, e);
+            }
+
+            Directories.force(this.file.toAbsolutePath().getParent());
+        }
+
+        @Override
+        public void discard() {
+            try {
+                Files.deleteIfExists(this.temporaryFile);
+            } catch (IOException e) {
+                throw new PersistenceException("delete archive", this.temporaryFile, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+
+/**
+ * Periodically archives past months, snapshots the repositories and drops the log segments
+ * the snapshot covers.
+ */
+public class Checkpointer implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(Checkpointer.class.getName());
+
+    private final WriteAheadLog writeAheadLog;
+    private final SnapshotStore snapshotStore;
+    private final BookingArchive bookingArchive;
+    private final RoomRepository roomRepository;
+    private final GuestRepository guestRepository;
+    private final BookingRepository bookingRepository;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "checkpointer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public Checkpointer(
+            WriteAheadLog writeAheadLog,
+            SnapshotStore snapshotStore,
+            BookingArchive bookingArchive,
+            LogApplier repositories,
+            Duration interval) {
+        this.writeAheadLog = writeAheadLog;
+        this.snapshotStore = snapshotStore;
+        this.bookingArchive = bookingArchive;
+        this.roomRepository = repositories.roomRepository();
+        this.guestRepository = repositories.guestRepository();
+        this.bookingRepository = repositories.bookingRepository();
+
+        long intervalMillis = interval.toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::checkpointInBackground, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void checkpoint() {
+        this.bookingRepository.archiveBookingsCheckingOutBefore(YearMonth.now(), this.bookingArchive);
+
+        long[] firstUncoveredSegment = new long[1];
+
+        this.roomRepository.runWithChangesPaused(() ->
+                this.guestRepository.runWithChangesPaused(() ->
+                        this.bookingRepository.runWithChangesPaused(() ->
+                                firstUncoveredSegment[0] = this.writeAheadLog.rotate())));
+
+        this.snapshotStore.write(
+                this.bookingRepository.getAllBookings(),
+                this.guestRepository.getAllGuests(),
+                this.roomRepository.getAllRooms(),
+                firstUncoveredSegment[0]
+        );
+        this.writeAheadLog.deleteSegmentsBefore(firstUncoveredSegment[0]);
+    }
+
+    /**
+     * Stops the background schedule and takes a final checkpoint, so the next start only
+     * has to map the snapshot.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdown();
+
+        try {
+            this.scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.checkpoint();
+    }
+
+    /**
+     * Logs any failure instead of letting it escape: a scheduled task that throws is never
+     * run again, which would silently stop checkpoints and let the log grow without bound.
+     */
+    private void checkpointInBackground() {
+        try {
+            this.checkpoint();
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not take a checkpoint; retrying after the interval.", e);
+        }
+    }
+}
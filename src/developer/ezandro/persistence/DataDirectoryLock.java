@@ -0,0 +1,51 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.exceptions.PersistenceException;
+
+/**
+ * Exclusive hold on a data directory, so no two processes replay and append to its log at
+ * once. The operating system releases it when the process ends.
+ */
+public final class DataDirectoryLock implements AutoCloseable {
+    private static final String FILE_NAME = "hotel.lock";
+
+    private final FileChannel channel;
+
+    private DataDirectoryLock(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static DataDirectoryLock acquire(Path dataDirectory) {
+        try {
+            Files.createDirectories(dataDirectory);
+            FileChannel channel = FileChannel.open(dataDirectory.resolve(FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+            if (!tryLock(channel)) {
+                channel.close();
+                throw new PersistenceException("lock data directory (in use by another process)", dataDirectory, null);
+            }
+
+            return new DataDirectoryLock(channel);
+        } catch (IOException e) {
+            throw new PersistenceException("lock data directory", dataDirectory, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new PersistenceException("unlock data directory", null, e);
+        }
+    }
+
+    private static boolean tryLock(FileChannel channel) throws IOException {
+        try {
+            return Objects.nonNull(channel.tryLock());
+        } catch (OverlappingFileLockException _) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.exceptions.PersistenceException;
+
+final class Directories {
+    private Directories() {
+    }
+
+    /**
+     * Forces the directory's entries to disk, so a file just moved into it survives a crash
+     * under its new name.
+     */
+    static void force(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            throw new PersistenceException("sync directory", directory, e);
+        }
+    }
+}
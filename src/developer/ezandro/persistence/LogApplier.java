@@ -0,0 +1,76 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+
+/**
+ * Re-applies logged changes to the repositories, skipping those a snapshot already holds.
+ */
+public record LogApplier(
+        RoomRepository roomRepository,
+        GuestRepository guestRepository,
+        BookingRepository bookingRepository) {
+    void applyRoomAdded(Room room) {
+        Room.ensureIdGeneratorAbove(room.id());
+
+        if (!this.roomRepository.existsById(room.id())) {
+            this.roomRepository.addRoom(room);
+        }
+    }
+
+    void applyGuestAdded(Guest guest) {
+        Guest.ensureIdGeneratorAbove(guest.id());
+
+        if (!this.guestRepository.existsById(guest.id())) {
+            this.guestRepository.addGuest(guest);
+        }
+    }
+
+    void applyGuestRemoved(int id) {
+        if (this.guestRepository.existsById(id)) {
+            this.guestRepository.removeGuest(id);
+        }
+    }
+
+    void applyBookingAdded(Booking booking) {
+        Booking.ensureIdGeneratorAbove(booking.id());
+
+        if (!this.bookingRepository.existsById(booking.id())) {
+            this.bookingRepository.addBooking(booking);
+        }
+    }
+
+    void applyBookingAdded(int id, int roomId, int guestId, LocalDate checkIn, LocalDate checkOut, long nightlyRateCents) {
+        Booking.ensureIdGeneratorAbove(id);
+
+        if (!this.bookingRepository.existsById(id)) {
+            this.bookingRepository.addBooking(this.resolveBooking(id, roomId, guestId, checkIn, checkOut, nightlyRateCents));
+        }
+    }
+
+    void applyBookingUpdated(int id, int roomId, int guestId, LocalDate checkIn, LocalDate checkOut, long nightlyRateCents) {
+        if (this.bookingRepository.existsById(id)) {
+            Booking booking = this.resolveBooking(id, roomId, guestId, checkIn, checkOut, nightlyRateCents);
+            this.bookingRepository.updateBooking(id, _ -> booking);
+        }
+    }
+
+    void applyBookingRemoved(int id) {
+        if (this.bookingRepository.existsById(id)) {
+            this.bookingRepository.removeBooking(id);
+        }
+    }
+
+    private Booking resolveBooking(int id, int roomId, int guestId, LocalDate checkIn, LocalDate checkOut, long nightlyRateCents) {
+        Guest guest = this.guestRepository.existsById(guestId)
+                ? this.guestRepository.findGuestById(guestId)
+                : new Guest(guestId, "", "");
+
+        return new Booking(id, this.roomRepository.findRoomById(roomId), guest, checkIn, checkOut, nightlyRateCents);
+    }
+}
@@ -0,0 +1,265 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+
+/**
+ * Binary format of a log record: {@code [int payloadLength][int crc32c][byte type][fields]}.
+ */
+public final class LogRecords {
+    public static final byte ROOM_ADDED = 1;
+    public static final byte GUEST_ADDED = 2;
+    public static final byte BOOKING_ADDED = 3;
+    public static final byte BOOKINGS_ADDED = 4;
+    public static final byte BOOKING_UPDATED = 5;
+    public static final byte GUEST_REMOVED = 6;
+    public static final byte BOOKING_REMOVED = 7;
+    public static final byte BOOKINGS_ARCHIVED = 8;
+    public static final byte BOOKINGS_ADDED_PART = 9;
+    public static final byte BOOKINGS_ARCHIVED_PART = 10;
+
+    public static final int MAX_RECORD_BYTES = 1 << 18;
+    public static final int INCOMPLETE = 0;
+    public static final int CORRUPT = -1;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int BOOKING_BYTES = 5 * Integer.BYTES + Long.BYTES;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    public static final int MAX_BOOKINGS_PER_RECORD = (MAX_RECORD_BYTES - HEADER_BYTES - 1 - Integer.BYTES) / BOOKING_BYTES;
+    public static final int MAX_IDS_PER_RECORD = (MAX_RECORD_BYTES - HEADER_BYTES - 1 - Integer.BYTES) / Integer.BYTES;
+
+    private LogRecords() {
+    }
+
+    public static void putRoomAdded(ByteBuffer buffer, Room room) {
+        int start = beginRecord(buffer, ROOM_ADDED);
+        buffer.putInt(room.id());
+        putString(buffer, room.number());
+        buffer.putInt(room.capacity());
+        buffer.put((byte) room.roomType().ordinal());
+        endRecord(buffer, start);
+    }
+
+    public static void putGuestAdded(ByteBuffer buffer, Guest guest) {
+        int start = beginRecord(buffer, GUEST_ADDED);
+        buffer.putInt(guest.id());
+        putString(buffer, guest.name());
+        putString(buffer, guest.email());
+        endRecord(buffer, start);
+    }
+
+    public static void putBookingAdded(ByteBuffer buffer, Booking booking) {
+        int start = beginRecord(buffer, BOOKING_ADDED);
+        putBooking(buffer, booking);
+        endRecord(buffer, start);
+    }
+
+    public static void putGuestRemoved(ByteBuffer buffer, Guest guest) {
+        int start = beginRecord(buffer, GUEST_REMOVED);
+        buffer.putInt(guest.id());
+        endRecord(buffer, start);
+    }
+
+    public static void putBookingUpdated(ByteBuffer buffer, Booking booking) {
+        int start = beginRecord(buffer, BOOKING_UPDATED);
+        putBooking(buffer, booking);
+        endRecord(buffer, start);
+    }
+
+    public static void putBookingRemoved(ByteBuffer buffer, Booking booking) {
+        int start = beginRecord(buffer, BOOKING_REMOVED);
+        buffer.putInt(booking.id());
+        endRecord(buffer, start);
+    }
+
+    /**
+     * Writes up to {@link #MAX_BOOKINGS_PER_RECORD} bookings as a single record, which ends
+     * its batch unless {@code batchContinues}.
+     */
+    public static void putBookingsAdded(ByteBuffer buffer, List<Booking> bookings, boolean batchContinues) {
+        int start = beginRecord(buffer, batchContinues ? BOOKINGS_ADDED_PART : BOOKINGS_ADDED);
+        buffer.putInt(bookings.size());
+        bookings.forEach(booking -> putBooking(buffer, booking));
+        endRecord(buffer, start);
+    }
+
+    /**
+     * Writes the ids of up to {@link #MAX_IDS_PER_RECORD} archived bookings as a single record,
+     * which ends its batch unless {@code batchContinues}.
+     */
+    public static void putBookingsArchived(ByteBuffer buffer, List<Booking> bookings, boolean batchContinues) {
+        int start = beginRecord(buffer, batchContinues ? BOOKINGS_ARCHIVED_PART : BOOKINGS_ARCHIVED);
+        buffer.putInt(bookings.size());
+        bookings.forEach(booking -> buffer.putInt(booking.id()));
+        endRecord(buffer, start);
+    }
+
+    /**
+     * Decodes the record at the buffer's position and hands it to the applier, or holds it
+     * in {@code batch} if it is not the last record of its batch. Any other record means the
+     * open batch was never finished, and it is dropped.
+     *
+     * @return the number of bytes consumed, {@link #INCOMPLETE} when the buffer ends in
+     * the middle of a record, or {@link #CORRUPT} when the record fails its checksum
+     */
+    public static int readRecord(ByteBuffer buffer, LogApplier applier, PendingBatch batch) {
+        if (buffer.remaining() < HEADER_BYTES) {
+            return INCOMPLETE;
+        }
+
+        int start = buffer.position();
+        int payloadLength = buffer.getInt(start);
+
+        if (payloadLength <= 0 || payloadLength > MAX_RECORD_BYTES - HEADER_BYTES) {
+            return CORRUPT;
+        }
+
+        if (buffer.remaining() < HEADER_BYTES + payloadLength) {
+            return INCOMPLETE;
+        }
+
+        int payloadStart = start + HEADER_BYTES;
+
+        if (buffer.getInt(start + Integer.BYTES) != checksum(buffer, payloadStart, payloadLength)) {
+            return CORRUPT;
+        }
+
+        buffer.position(payloadStart);
+        byte type = buffer.get();
+
+        if (batch.isOpen() && type != BOOKINGS_ADDED_PART && type != BOOKINGS_ADDED
+                && type != BOOKINGS_ARCHIVED_PART && type != BOOKINGS_ARCHIVED) {
+            batch.discard();
+        }
+
+        switch (type) {
+            case ROOM_ADDED ->
+                    applier.applyRoomAdded(readRoom(buffer));
+            case GUEST_ADDED ->
+                    applier.applyGuestAdded(new Guest(buffer.getInt(), getString(buffer), getString(buffer)));
+            case GUEST_REMOVED ->
+                    applier.applyGuestRemoved(buffer.getInt());
+            case BOOKING_ADDED ->
+                    readBookingAdded(buffer, applier, null);
+            case BOOKINGS_ADDED_PART -> {
+                int bookingCount = buffer.getInt();
+                for (int i = 0; i < bookingCount; i++) {
+                    readBookingAdded(buffer, applier, batch);
+                }
+            }
+            case BOOKINGS_ADDED -> {
+                batch.apply();
+                int bookingCount = buffer.getInt();
+                for (int i = 0; i < bookingCount; i++) {
+                    readBookingAdded(buffer, applier, null);
+                }
+            }
+            case BOOKING_UPDATED ->
+                    readBookingUpdated(buffer, applier);
+            case BOOKING_REMOVED ->
+                    applier.applyBookingRemoved(buffer.getInt());
+            case BOOKINGS_ARCHIVED_PART -> {
+                int bookingCount = buffer.getInt();
+                for (int i = 0; i < bookingCount; i++) {
+                    int id = buffer.getInt();
+                    batch.hold(() -> applier.applyBookingRemoved(id));
+                }
+            }
+            case BOOKINGS_ARCHIVED -> {
+                batch.apply();
+                int bookingCount = buffer.getInt();
+                for (int i = 0; i < bookingCount; i++) {
+                    applier.applyBookingRemoved(buffer.getInt());
+                }
+            }
+            default -> {
+                buffer.position(start);
+                return CORRUPT;
+            }
+        }
+
+        buffer.position(payloadStart + payloadLength);
+        return HEADER_BYTES + payloadLength;
+    }
+
+    private static Room readRoom(ByteBuffer buffer) {
+        int id = buffer.getInt();
+        String number = getString(buffer);
+        int capacity = buffer.getInt();
+        RoomType roomType = RoomType.values()[buffer.get()];
+        return new Room(id, number, capacity, roomType);
+    }
+
+    private static void readBookingAdded(ByteBuffer buffer, LogApplier applier, PendingBatch batch) {
+        int id = buffer.getInt();
+        int roomId = buffer.getInt();
+        int guestId = buffer.getInt();
+        LocalDate checkIn = LocalDate.ofEpochDay(buffer.getInt());
+        LocalDate checkOut = LocalDate.ofEpochDay(buffer.getInt());
+        long nightlyRateCents = buffer.getLong();
+
+        if (Objects.isNull(batch)) {
+            applier.applyBookingAdded(id, roomId, guestId, checkIn, checkOut, nightlyRateCents);
+        } else {
+            batch.hold(() -> applier.applyBookingAdded(id, roomId, guestId, checkIn, checkOut, nightlyRateCents));
+        }
+    }
+
+    private static void readBookingUpdated(ByteBuffer buffer, LogApplier applier) {
+        int id = buffer.getInt();
+        int roomId = buffer.getInt();
+        int guestId = buffer.getInt();
+        LocalDate checkIn = LocalDate.ofEpochDay(buffer.getInt());
+        LocalDate checkOut = LocalDate.ofEpochDay(buffer.getInt());
+        applier.applyBookingUpdated(id, roomId, guestId, checkIn, checkOut, buffer.getLong());
+    }
+
+    private static void putBooking(ByteBuffer buffer, Booking booking) {
+        buffer.putInt(booking.id());
+        buffer.putInt(booking.room().id());
+        buffer.putInt(booking.guest().id());
+        buffer.putInt((int) booking.checkInDate().toEpochDay());
+        buffer.putInt((int) booking.checkOutDate().toEpochDay());
+        buffer.putLong(booking.nightlyRateCents());
+    }
+
+    private static int beginRecord(ByteBuffer buffer, byte type) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_BYTES);
+        buffer.put(type);
+        return start;
+    }
+
+    private static void endRecord(ByteBuffer buffer, int start) {
+        int payloadStart = start + HEADER_BYTES;
+        int payloadLength = buffer.position() - payloadStart;
+        buffer.putInt(start, payloadLength);
+        buffer.putInt(start + Integer.BYTES, checksum(buffer, payloadStart, payloadLength));
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("A logged string can be at most " + MAX_STRING_BYTES + " bytes.");
+        }
+
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
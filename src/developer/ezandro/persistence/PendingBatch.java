@@ -0,0 +1,30 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+
+/**
+ * The changes read so far of a batch logged over several records, applied once its last record is read.
+ */
+public final class PendingBatch {
+    private final List<Runnable> changes = new ArrayList<>();
+    private boolean open;
+
+    public boolean isOpen() {
+        return this.open;
+    }
+
+    public void discard() {
+        this.changes.clear();
+        this.open = false;
+    }
+
+    void hold(Runnable change) {
+        this.changes.add(change);
+        this.open = true;
+    }
+
+    void apply() {
+        this.changes.forEach(Runnable::run);
+        this.discard();
+    }
+}
@@ -0,0 +1,238 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.exceptions.PersistenceException;
+
+/**
+ * Fixed-layout snapshot of all rooms, guests and bookings. Loading reads every record back
+ * into the repositories, so startup still takes time in proportion to the data held.
+ * <p>
+ * Layout: a 64-byte header, then 20-byte room and guest records, 28-byte booking records
+ * carrying the nightly rate they were made at, then a pool of UTF-8 strings that room and guest records point into by offset and length. The header
+ * stores the first log segment the snapshot does not cover and the last room, guest and
+ * booking ids issued, so ids of entities removed before the snapshot are never reused.
+ */
+public class SnapshotStore {
+    private static final int MAGIC = 0x484F544C;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final int RECORD_BYTES = 5 * Integer.BYTES;
+    private static final int BOOKING_RECORD_BYTES = RECORD_BYTES + Long.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final Path file;
+
+    public SnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the snapshot, if there is one, into the applier's repositories.
+     *
+     * @return the first log segment that still has to be replayed
+     */
+    public long load(LogApplier applier) {
+        if (Files.notExists(this.file)) {
+            return 0;
+        }
+
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (snapshot.getInt(0) != MAGIC || snapshot.getInt(4) != VERSION) {
+                throw new PersistenceException("read snapshot (unknown format)", this.file, null);
+            }
+
+            long firstLogSegment = snapshot.getLong(8);
+            int roomCount = snapshot.getInt(16);
+            int guestCount = snapshot.getInt(20);
+            int bookingCount = snapshot.getInt(24);
+            Room.ensureIdGeneratorAbove(snapshot.getInt(28));
+            Guest.ensureIdGeneratorAbove(snapshot.getInt(32));
+            Booking.ensureIdGeneratorAbove(snapshot.getInt(36));
+            int roomsOffset = HEADER_BYTES;
+            int guestsOffset = roomsOffset + roomCount * RECORD_BYTES;
+            int bookingsOffset = guestsOffset + guestCount * RECORD_BYTES;
+            int stringsOffset = bookingsOffset + bookingCount * BOOKING_RECORD_BYTES;
+
+            RoomType[] roomTypes = RoomType.values();
+            for (int record = roomsOffset; record < guestsOffset; record += RECORD_BYTES) {
+                applier.applyRoomAdded(new Room(
+                        snapshot.getInt(record),
+                        readString(snapshot, stringsOffset, record + 12),
+                        snapshot.getInt(record + 4),
+                        roomTypes[snapshot.getInt(record + 8)]
+                ));
+            }
+
+            for (int record = guestsOffset; record < bookingsOffset; record += RECORD_BYTES) {
+                applier.applyGuestAdded(new Guest(
+                        snapshot.getInt(record),
+                        readString(snapshot, stringsOffset, record + 4),
+                        readString(snapshot, stringsOffset, record + 12)
+                ));
+            }
+
+            for (int record = bookingsOffset; record < stringsOffset; record += BOOKING_RECORD_BYTES) {
+                applier.applyBookingAdded(new Booking(
+                        snapshot.getInt(record),
+                        applier.roomRepository().findRoomById(snapshot.getInt(record + 4)),
+                        applier.guestRepository().findGuestById(snapshot.getInt(record + 8)),
+                        LocalDate.ofEpochDay(snapshot.getInt(record + 12)),
+                        LocalDate.ofEpochDay(snapshot.getInt(record + 16)),
+                        snapshot.getLong(record + 20)
+                ));
+            }
+
+            return firstLogSegment;
+        } catch (IOException e) {
+            throw new PersistenceException("read snapshot", this.file, e);
+        }
+    }
+
+    /**
+     * Writes a new snapshot next to the current one and atomically replaces it; the log
+     * segments it covers may be deleted once this returns. Bookings are captured before
+     * guests and rooms, so every captured booking finds its room; a guest removed after the
+     * bookings were captured is kept for the bookings that still point to it, and the
+     * removal is replayed from the log.
+     */
+    public void write(List<Booking> bookings, List<Guest> capturedGuests, List<Room> rooms, long firstLogSegment) {
+        List<Guest> guests = withReferencedGuests(bookings, capturedGuests);
+        Path temporaryFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporaryFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            SnapshotWriter writer = new SnapshotWriter(channel);
+            writer.writeHeader(firstLogSegment, rooms.size(), guests.size(), bookings.size());
+
+            int stringOffset = 0;
+            for (Room room : rooms) {
+                int numberLength = utf8Length(room.number());
+                writer.writeRecord(room.id(), room.capacity(), room.roomType().ordinal(), stringOffset, numberLength);
+                stringOffset += numberLength;
+            }
+
+            for (Guest guest : guests) {
+                int nameLength = utf8Length(guest.name());
+                int emailLength = utf8Length(guest.email());
+                writer.writeRecord(guest.id(), stringOffset, nameLength, stringOffset + nameLength, emailLength);
+                stringOffset += nameLength + emailLength;
+            }
+
+            for (Booking booking : bookings) {
+                writer.writeBookingRecord(booking);
+            }
+
+            for (Room room : rooms) {
+                writer.writeString(room.number());
+            }
+
+            for (Guest guest : guests) {
+                writer.writeString(guest.name());
+                writer.writeString(guest.email());
+            }
+
+            writer.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new PersistenceException("write snapshot", temporaryFile, e);
+        }
+
+        try {
+            Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new PersistenceException("replace snapshot", this.file, e);
+        }
+
+        Directories.force(this.file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Adds to guests read after the bookings any guest a booking still points to, which a
+     * merge removed in between. Its removal follows later in the log.
+     */
+    public static List<Guest> withReferencedGuests(List<Booking> bookings, List<Guest> capturedGuests) {
+        BitSet guestIds = new BitSet();
+        capturedGuests.forEach(guest -> guestIds.set(guest.id()));
+        List<Guest> guests = capturedGuests;
+
+        for (Booking booking : bookings) {
+            Guest guest = booking.guest();
+
+            if (!guestIds.get(guest.id())) {
+                if (guests == capturedGuests) {
+                    guests = new ArrayList<>(capturedGuests);
+                }
+                guests.add(guest);
+                guestIds.set(guest.id());
+            }
+        }
+
+        return guests;
+    }
+
+    private static String readString(MappedByteBuffer snapshot, int stringsOffset, int reference) {
+        byte[] bytes = new byte[snapshot.getInt(reference + 4)];
+        snapshot.get(stringsOffset + snapshot.getInt(reference), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static final class SnapshotWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+
+        private SnapshotWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void writeHeader(long firstLogSegment, int roomCount, int guestCount, int bookingCount) throws IOException {
+            this.ensureCapacity(HEADER_BYTES);
+            int start = this.buffer.position();
+            this.buffer.putInt(MAGIC).putInt(VERSION).putLong(firstLogSegment)
+                    .putInt(roomCount).putInt(guestCount).putInt(bookingCount)
+                    .putInt(Room.lastIssuedId()).putInt(Guest.lastIssuedId()).putInt(Booking.lastIssuedId());
+            this.buffer.position(start + HEADER_BYTES);
+        }
+
+        private void writeRecord(int first, int second, int third, int fourth, int fifth) throws IOException {
+            this.ensureCapacity(RECORD_BYTES);
+            this.buffer.putInt(first).putInt(second).putInt(third).putInt(fourth).putInt(fifth);
+        }
+
+        private void writeBookingRecord(Booking booking) throws IOException {
+            this.ensureCapacity(BOOKING_RECORD_BYTES);
+            this.buffer.putInt(booking.id()).putInt(booking.room().id()).putInt(booking.guest().id())
+                    .putInt((int) booking.checkInDate().toEpochDay()).putInt((int) booking.checkOutDate().toEpochDay())
+                    .putLong(booking.nightlyRateCents());
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.ensureCapacity(bytes.length);
+            this.buffer.put(bytes);
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes) {
+                this.flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.exceptions.PersistenceException;
+import developer.ezandro.repositories.RepositoryListener;
+
+/**
+ * Append-only log of every repository change, in numbered segments, forced to disk once every
+ * {@code syncEveryRecords} appends.
+ */
+public class WriteAheadLog implements RepositoryListener, AutoCloseable {
+    private static final int REPLAY_BUFFER_BYTES = 4 << 20;
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final int syncEveryRecords;
+    private final ByteBuffer recordBuffer = ByteBuffer.allocateDirect(LogRecords.MAX_RECORD_BYTES);
+    private FileChannel channel;
+    private long segment;
+    private int unsyncedRecords;
+
+    public WriteAheadLog(Path directory, int syncEveryRecords) {
+        this.directory = directory;
+        this.syncEveryRecords = Math.max(1, syncEveryRecords);
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new PersistenceException("create log directory", directory, e);
+        }
+
+        List<Long> segments = this.listSegments();
+        this.openSegment(segments.isEmpty() ? 1 : segments.getLast());
+    }
+
+    /**
+     * Replays every segment from {@code fromSegment} on, oldest first, into the applier's
+     * repositories. A torn or corrupt record at the end of the active segment is left by a
+     * crash: replay stops there and the segment is truncated to its last intact record, or
+     * to the start of a batch that record leaves unfinished.
+     */
+    public synchronized void replay(LogApplier applier, long fromSegment) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(REPLAY_BUFFER_BYTES);
+
+        for (long replayedSegment : this.listSegments()) {
+            if (replayedSegment < fromSegment) {
+                continue;
+            }
+
+            Path file = this.segmentFile(replayedSegment);
+
+            try (FileChannel segmentChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long validPosition = replaySegment(segmentChannel, buffer, applier);
+
+                if (validPosition < segmentChannel.size()) {
+                    if (replayedSegment != this.segment) {
+                        throw new PersistenceException("replay corrupt log segment", file, null);
+                    }
+
+                    this.channel.truncate(validPosition);
+                    this.channel.position(validPosition);
+                }
+            } catch (IOException e) {
+                throw new PersistenceException("replay log segment", file, e);
+            }
+        }
+    }
+
+    /**
+     * Closes the active segment and starts a new one.
+     *
+     * @return the number of the new segment; every earlier segment is complete
+     */
+    public synchronized long rotate() {
+        this.sync();
+        this.closeChannel();
+        this.openSegment(this.segment + 1);
+        return this.segment;
+    }
+
+    public synchronized void deleteSegmentsBefore(long firstKeptSegment) {
+        for (long oldSegment : this.listSegments()) {
+            if (oldSegment < firstKeptSegment) {
+                Path file = this.segmentFile(oldSegment);
+
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    throw new PersistenceException("delete log segment", file, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onRoomAdded(Room room) {
+        this.recordBuffer.clear();
+        LogRecords.putRoomAdded(this.recordBuffer, room);
+        this.append();
+    }
+
+    @Override
+    public synchronized void onGuestAdded(Guest guest) {
+        this.recordBuffer.clear();
+        LogRecords.putGuestAdded(this.recordBuffer, guest);
+        this.append();
+    }
+
+    @Override
+    public synchronized void onGuestRemoved(Guest guest) {
+        this.recordBuffer.clear();
+        LogRecords.putGuestRemoved(this.recordBuffer, guest);
+        this.append();
+    }
+
+    @Override
+    public synchronized void onBookingAdded(Booking booking) {
+        this.recordBuffer.clear();
+        LogRecords.putBookingAdded(this.recordBuffer, booking);
+        this.append();
+    }
+
+    /**
+     * Writes the batch as one record (or one record per {@link LogRecords#MAX_BOOKINGS_PER_RECORD}
+     * bookings) and counts it as a single append towards the group commit.
+     */
+    @Override
+    public synchronized void onBookingsAdded(List<Booking> bookings) {
+        for (int from = 0; from < bookings.size(); from += LogRecords.MAX_BOOKINGS_PER_RECORD) {
+            int to = Math.min(bookings.size(), from + LogRecords.MAX_BOOKINGS_PER_RECORD);
+            this.recordBuffer.clear();
+            LogRecords.putBookingsAdded(this.recordBuffer, bookings.subList(from, to), to < bookings.size());
+            this.write();
+        }
+
+        this.countAppend();
+    }
+
+    @Override
+    public synchronized void onBookingUpdated(Booking previous, Booking updated) {
+        this.recordBuffer.clear();
+        LogRecords.putBookingUpdated(this.recordBuffer, updated);
+        this.append();
+    }
+
+    @Override
+    public synchronized void onBookingRemoved(Booking booking) {
+        this.recordBuffer.clear();
+        LogRecords.putBookingRemoved(this.recordBuffer, booking);
+        this.append();
+    }
+
+    /**
+     * Logs only the ids: the bookings themselves are already in the archive.
+     */
+    @Override
+    public synchronized void onBookingsArchived(List<Booking> bookings) {
+        for (int from = 0; from < bookings.size(); from += LogRecords.MAX_IDS_PER_RECORD) {
+            int to = Math.min(bookings.size(), from + LogRecords.MAX_IDS_PER_RECORD);
+            this.recordBuffer.clear();
+            LogRecords.putBookingsArchived(this.recordBuffer, bookings.subList(from, to), to < bookings.size());
+            this.write();
+        }
+
+        this.countAppend();
+    }
+
+    public synchronized void sync() {
+        try {
+            this.channel.force(false);
+            this.unsyncedRecords = 0;
+        } catch (IOException e) {
+            throw new PersistenceException("sync log segment", this.segmentFile(this.segment), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        this.sync();
+        this.closeChannel();
+    }
+
+    private static long replaySegment(FileChannel segmentChannel, ByteBuffer buffer, LogApplier applier) throws IOException {
+        PendingBatch batch = new PendingBatch();
+        long position = 0;
+        long validPosition = 0;
+        boolean endOfSegment = false;
+        buffer.clear();
+
+        while (!endOfSegment) {
+            endOfSegment = segmentChannel.read(buffer) == -1;
+            buffer.flip();
+
+            int consumed;
+            while ((consumed = LogRecords.readRecord(buffer, applier, batch)) > 0) {
+                position += consumed;
+                if (!batch.isOpen()) {
+                    validPosition = position;
+                }
+            }
+
+            if (consumed == LogRecords.CORRUPT) {
+                break;
+            }
+
+            buffer.compact();
+        }
+
+        return validPosition;
+    }
+
+    private void append() {
+        this.write();
+        this.countAppend();
+    }
+
+    private void write() {
+        this.recordBuffer.flip();
+
+        try {
+            while (this.recordBuffer.hasRemaining()) {
+                this.channel.write(this.recordBuffer);
+            }
+        } catch (IOException e) {
+            throw new PersistenceException("append to log segment", this.segmentFile(this.segment), e);
+        }
+    }
+
+    private void countAppend() {
+        if (++this.unsyncedRecords >= this.syncEveryRecords) {
+            this.sync();
+        }
+    }
+
+    private void openSegment(long newSegment) {
+        Path file = this.segmentFile(newSegment);
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.channel.position(this.channel.size());
+            this.segment = newSegment;
+        } catch (IOException e) {
+            throw new PersistenceException("open log segment", file, e);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new PersistenceException("close log segment", this.segmentFile(this.segment), e);
+        }
+    }
+
+    private List<Long> listSegments() {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files
+                    .map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new PersistenceException("list log segments in", this.directory, e);
+        }
+    }
+
+    private Path segmentFile(long segmentNumber) {
+        return this.directory.resolve(String.format("%020d%s", segmentNumber, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,12 @@
+package developer.ezandro.replication;
+
+import module java.base;
+
+/**
+ * A primary's end of the replication stream and how far it has sent it to each connected
+ * replica; positions are byte offsets in the stream.
+ */
+public record PrimaryStatus(long position, List<Replica> replicas) {
+    public record Replica(String address, long sentPosition) {
+    }
+}
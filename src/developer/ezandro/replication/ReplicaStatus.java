@@ -0,0 +1,16 @@
+package developer.ezandro.replication;
+
+/**
+ * How far a replica is behind its primary: in bytes of the replication stream not yet
+ * applied, and in milliseconds since it last had everything the primary had.
+ */
+public record ReplicaStatus(
+        boolean connected,
+        boolean resyncing,
+        long appliedPosition,
+        long primaryPosition,
+        long lagMillis) {
+    public long lagBytes() {
+        return this.primaryPosition - this.appliedPosition;
+    }
+}
@@ -0,0 +1,63 @@
+package developer.ezandro.replication;
+
+import module java.base;
+
+/**
+ * The most recent bytes of a property's replication stream, in a ring of fixed size.
+ */
+final class ReplicationBacklog {
+    static final long OVERRUN = -1;
+
+    private final byte[] ring;
+    private long end;
+
+    ReplicationBacklog(int capacityBytes) {
+        this.ring = new byte[capacityBytes];
+    }
+
+    synchronized void append(ByteBuffer records) {
+        while (records.hasRemaining()) {
+            int offset = (int) (this.end % this.ring.length);
+            int length = Math.min(records.remaining(), this.ring.length - offset);
+            records.get(this.ring, offset, length);
+            this.end += length;
+        }
+
+        this.notifyAll();
+    }
+
+    synchronized long end() {
+        return this.end;
+    }
+
+    /**
+     * Copies the bytes from {@code position} on into the target, waiting up to
+     * {@code timeoutMillis} for some to be appended.
+     *
+     * @return the position after the copied bytes, or {@link #OVERRUN} if the bytes at
+     * {@code position} have already been overwritten
+     */
+    synchronized long read(long position, ByteBuffer target, long timeoutMillis) throws InterruptedException {
+        long waitNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long deadline = System.nanoTime() + waitNanos;
+
+        while (position == this.end && waitNanos > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, waitNanos);
+            waitNanos = deadline - System.nanoTime();
+        }
+
+        if (position < this.end - this.ring.length) {
+            return OVERRUN;
+        }
+
+        long copyEnd = Math.min(this.end, position + target.remaining());
+        for (long from = position; from < copyEnd; ) {
+            int offset = (int) (from % this.ring.length);
+            int length = (int) Math.min(copyEnd - from, this.ring.length - offset);
+            target.put(this.ring, offset, length);
+            from += length;
+        }
+
+        return copyEnd;
+    }
+}
@@ -0,0 +1,227 @@
+package developer.ezandro.replication;
+
+import module java.base;
+import module java.management;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.persistence.LogApplier;
+import developer.ezandro.persistence.LogRecords;
+import developer.ezandro.persistence.PendingBatch;
+
+/**
+ * Keeps one property's repositories a read-only copy of its primary's.
+ */
+public class ReplicationFollower implements ReplicationFollowerMXBean, AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ReplicationFollower.class.getName());
+    private static final long RETRY_MILLIS = 1_000;
+
+    private final String property;
+    private final InetSocketAddress primary;
+    private final LogApplier repositories;
+    private final long maxLagMillis;
+    private final Thread thread;
+    private volatile SocketChannel channel;
+    private volatile boolean closed;
+    private volatile boolean connected;
+    private volatile boolean resyncing = true;
+    private volatile long appliedPosition;
+    private volatile long primaryPosition;
+    private volatile long caughtUpNanos;
+
+    public ReplicationFollower(String property, InetSocketAddress primary, LogApplier repositories, long maxLagMillis) {
+        this.property = property;
+        this.primary = primary;
+        this.repositories = repositories;
+        this.maxLagMillis = maxLagMillis;
+        this.caughtUpNanos = System.nanoTime();
+        this.thread = new Thread(this::run, "replica-" + property);
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        this.thread.start();
+    }
+
+    public ReplicaStatus status() {
+        long lagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.caughtUpNanos);
+        return new ReplicaStatus(this.connected, this.resyncing, this.appliedPosition, this.primaryPosition, lagMillis);
+    }
+
+    /**
+     * Whether the copy is complete and within the lag bound, so reads may be served.
+     */
+    public boolean isReadable() {
+        return !this.resyncing && System.nanoTime() - this.caughtUpNanos <= TimeUnit.MILLISECONDS.toNanos(this.maxLagMillis);
+    }
+
+    public long maxLagMillis() {
+        return this.maxLagMillis;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return this.connected;
+    }
+
+    @Override
+    public boolean isResyncing() {
+        return this.resyncing;
+    }
+
+    @Override
+    public long getLagBytes() {
+        return this.status().lagBytes();
+    }
+
+    @Override
+    public long getLagMillis() {
+        return this.status().lagMillis();
+    }
+
+    /**
+     * Publishes the lag on the platform MBean server as
+     * {@code developer.ezandro:type=Replication,property=<code>}. The replica runs on without
+     * it if it cannot be registered.
+     */
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, this.objectName());
+        } catch (JMException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not publish the replication lag of " + this.property + ".", e);
+        }
+    }
+
+    public void unregisterMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName());
+        } catch (JMException _) {
+            // never registered
+        }
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.thread.interrupt();
+
+        try {
+            SocketChannel activeChannel = this.channel;
+            if (Objects.nonNull(activeChannel)) {
+                activeChannel.close();
+            }
+
+            this.thread.join();
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not close the connection to the primary.", e);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ObjectName objectName() throws MalformedObjectNameException {
+        return new ObjectName("developer.ezandro:type=Replication,property=" + this.property);
+    }
+
+    private void run() {
+        while (!this.closed) {
+            try {
+                this.follow();
+            } catch (IOException | RuntimeException e) {
+                if (!this.closed) {
+                    LOGGER.log(System.Logger.Level.WARNING,
+                            "Replication of property ''{0}'' from {1} stopped: {2}", this.property, this.primary, e.getMessage());
+                }
+            } finally {
+                this.connected = false;
+            }
+
+            try {
+                Thread.sleep(RETRY_MILLIS);
+            } catch (InterruptedException _) {
+                return;
+            }
+        }
+    }
+
+    private void follow() throws IOException {
+        try (SocketChannel primaryChannel = SocketChannel.open(this.primary)) {
+            this.channel = primaryChannel;
+            ReplicationProtocol.writeHandshake(primaryChannel, this.property);
+
+            if (ReplicationProtocol.readFully(primaryChannel, ByteBuffer.allocate(1)).get() != ReplicationProtocol.ACCEPTED) {
+                throw new IOException("the primary has no property '" + this.property + "'");
+            }
+
+            this.connected = true;
+            this.resyncing = true;
+            this.clearRepositories();
+
+            ByteBuffer header = ByteBuffer.allocate(ReplicationProtocol.FRAME_HEADER_BYTES);
+            ByteBuffer records = ByteBuffer.allocateDirect(2 * LogRecords.MAX_RECORD_BYTES);
+            PendingBatch batch = new PendingBatch();
+
+            while (!this.closed) {
+                ReplicationProtocol.readFully(primaryChannel, header.clear());
+                byte kind = header.get();
+                long position = header.getLong();
+                long sentPrimaryPosition = header.getLong();
+                this.applyRecords(primaryChannel, records, batch, header.getInt());
+
+                if (kind == ReplicationProtocol.LOG) {
+                    this.resyncing = false;
+                    this.appliedPosition = position - records.position();
+                    this.primaryPosition = sentPrimaryPosition;
+
+                    if (this.appliedPosition >= sentPrimaryPosition) {
+                        this.caughtUpNanos = System.nanoTime();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads {@code length} bytes of log records and applies every complete record; the
+     * start of a record cut off by the end of the frame is kept for the next frame.
+     */
+    private void applyRecords(SocketChannel primaryChannel, ByteBuffer records, PendingBatch batch, int length) throws IOException {
+        int remaining = length;
+
+        while (remaining > 0) {
+            records.limit(records.position() + Math.min(remaining, records.remaining()));
+            int read = primaryChannel.read(records);
+            records.limit(records.capacity());
+
+            if (read < 0) {
+                throw new EOFException("connection closed");
+            }
+
+            remaining -= read;
+            records.flip();
+
+            int consumed;
+            do {
+                consumed = LogRecords.readRecord(records, this.repositories, batch);
+            } while (consumed > 0);
+
+            if (consumed == LogRecords.CORRUPT) {
+                throw new IOException("corrupt record from the primary");
+            }
+
+            records.compact();
+        }
+    }
+
+    /**
+     * Drops the bookings and guests left from an earlier connection; rooms are never
+     * removed, and the snapshot re-adds whatever still exists.
+     */
+    private void clearRepositories() {
+        List<Integer> bookingIds = this.repositories.bookingRepository().streamBookings(0, BookingFilter.ALL).map(Booking::id).toList();
+        bookingIds.forEach(this.repositories.bookingRepository()::removeBooking);
+
+        List<Integer> guestIds = this.repositories.guestRepository().streamGuests(0).map(Guest::id).toList();
+        guestIds.forEach(this.repositories.guestRepository()::removeGuest);
+    }
+}
@@ -0,0 +1,14 @@
+package developer.ezandro.replication;
+
+/**
+ * The JMX view of a {@link ReplicationFollower}: how far the replica is behind its primary.
+ */
+public interface ReplicationFollowerMXBean {
+    boolean isConnected();
+
+    boolean isResyncing();
+
+    long getLagBytes();
+
+    long getLagMillis();
+}
@@ -0,0 +1,79 @@
+package developer.ezandro.replication;
+
+import module java.base;
+
+/**
+ * Wire format between a primary and its replicas: a handshake naming the property, then frames of
+ * {@code [byte kind][long position][long primaryPosition][int length][log records]}.
+ */
+final class ReplicationProtocol {
+    static final byte SNAPSHOT = 1;
+    static final byte LOG = 2;
+    static final byte ACCEPTED = 1;
+    static final byte UNKNOWN_PROPERTY = 2;
+    static final int FRAME_HEADER_BYTES = 1 + 2 * Long.BYTES + Integer.BYTES;
+    static final int MAX_FRAME_BYTES = 1 << 20;
+    static final long HEARTBEAT_MILLIS = 100;
+
+    private static final int MAGIC = 0x48524550;
+    private static final int VERSION = 2;
+
+    private ReplicationProtocol() {
+    }
+
+    static void writeHandshake(SocketChannel channel, String property) throws IOException {
+        byte[] code = property.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer handshake = ByteBuffer.allocate(2 * Integer.BYTES + Short.BYTES + code.length)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putShort((short) code.length)
+                .put(code);
+        write(channel, handshake.flip());
+    }
+
+    /**
+     * Reads a replica's handshake.
+     *
+     * @return the code of the property the replica follows
+     */
+    static String readHandshake(SocketChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, ByteBuffer.allocate(2 * Integer.BYTES + Short.BYTES));
+
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("not a replica of this version");
+        }
+
+        ByteBuffer code = readFully(channel, ByteBuffer.allocate(Short.toUnsignedInt(header.getShort())));
+        return StandardCharsets.UTF_8.decode(code).toString();
+    }
+
+    static void putFrameHeader(ByteBuffer header, byte kind, long position, long primaryPosition, int length) {
+        header.clear()
+                .put(kind)
+                .putLong(position)
+                .putLong(primaryPosition)
+                .putInt(length)
+                .flip();
+    }
+
+    static void write(SocketChannel channel, ByteBuffer... buffers) throws IOException {
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Fills the buffer from the channel and flips it for reading.
+     */
+    static ByteBuffer readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("connection closed");
+            }
+        }
+
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,90 @@
+package developer.ezandro.replication;
+
+import module java.base;
+
+/**
+ * Accepts replica connections for every property on one port.
+ */
+public class ReplicationServer implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ReplicationServer.class.getName());
+
+    private final ServerSocketChannel serverChannel;
+    private final Map<String, ReplicationSource> sourcesByProperty;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ReplicationServer(int port, Map<String, ReplicationSource> sourcesByProperty) {
+        this.sourcesByProperty = Map.copyOf(sourcesByProperty);
+
+        try {
+            this.serverChannel = ServerSocketChannel.open().bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void start() {
+        this.executor.execute(this::acceptConnections);
+    }
+
+    public int port() {
+        try {
+            return ((InetSocketAddress) this.serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(this.serverChannel);
+        this.connections.forEach(ReplicationServer::closeQuietly);
+        this.executor.shutdownNow();
+    }
+
+    private void acceptConnections() {
+        while (this.serverChannel.isOpen()) {
+            try {
+                SocketChannel connection = this.serverChannel.accept();
+                this.connections.add(connection);
+                this.executor.execute(() -> this.serve(connection));
+            } catch (ClosedChannelException _) {
+                return;
+            } catch (IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Could not accept a replica.", e);
+            }
+        }
+    }
+
+    private void serve(SocketChannel connection) {
+        String replica = "unknown replica";
+
+        try (connection) {
+            replica = connection.getRemoteAddress().toString();
+            String property = ReplicationProtocol.readHandshake(connection);
+            ReplicationSource source = this.sourcesByProperty.get(property);
+            ByteBuffer reply = ByteBuffer.allocate(1)
+                    .put(Objects.isNull(source) ? ReplicationProtocol.UNKNOWN_PROPERTY : ReplicationProtocol.ACCEPTED);
+            ReplicationProtocol.write(connection, reply.flip());
+
+            if (Objects.nonNull(source)) {
+                LOGGER.log(System.Logger.Level.INFO, "Replica {0} connected to property ''{1}''.", replica, property);
+                source.stream(connection, replica);
+            }
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.INFO, "Replica {0} disconnected: {1}", replica, e.getMessage());
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.connections.remove(connection);
+        }
+    }
+
+    private static void closeQuietly(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not close a replication channel.", e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package developer.ezandro.replication;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.persistence.LogApplier;
+import developer.ezandro.persistence.LogRecords;
+import developer.ezandro.persistence.SnapshotStore;
+import developer.ezandro.repositories.RepositoryListener;
+
+/**
+ * Ships one property's changes to its replicas as log records.
+ * Register it after the write-ahead log, so a change the log refuses is never shipped.
+ */
+public class ReplicationSource implements RepositoryListener {
+    private final LogApplier repositories;
+    private final ReplicationBacklog backlog;
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(LogRecords.MAX_RECORD_BYTES);
+    private final Map<String, AtomicLong> sentPositionsByReplica = new ConcurrentHashMap<>();
+
+    public ReplicationSource(LogApplier repositories, int backlogBytes) {
+        this.repositories = repositories;
+        this.backlog = new ReplicationBacklog(backlogBytes);
+    }
+
+    public PrimaryStatus status() {
+        List<PrimaryStatus.Replica> replicas = new ArrayList<>();
+        this.sentPositionsByReplica.forEach((address, sentPosition) ->
+                replicas.add(new PrimaryStatus.Replica(address, sentPosition.get())));
+        return new PrimaryStatus(this.backlog.end(), replicas);
+    }
+
+    @Override
+    public synchronized void onRoomAdded(Room room) {
+        LogRecords.putRoomAdded(this.recordBuffer.clear(), room);
+        this.backlog.append(this.recordBuffer.flip());
+    }
+
+    @Override
+    public synchronized void onGuestAdded(Guest guest) {
+        LogRecords.putGuestAdded(this.recordBuffer.clear(), guest);
+        this.backlog.append(this.recordBuffer.flip());
+    }
+
+    @Override
+    public synchronized void onGuestRemoved(Guest guest) {
+        LogRecords.putGuestRemoved(this.recordBuffer.clear(), guest);
+        this.backlog.append(this.recordBuffer.flip());
+    }
+
+    @Override
+    public synchronized void onBookingAdded(Booking booking) {
+        LogRecords.putBookingAdded(this.recordBuffer.clear(), booking);
+        this.backlog.append(this.recordBuffer.flip());
+    }
+
+    @Override
+    public synchronized void onBookingsAdded(List<Booking> bookings) {
+        for (int from = 0; from < bookings.size(); from += LogRecords.MAX_BOOKINGS_PER_RECORD) {
+            int to = Math.min(bookings.size(), from + LogRecords.MAX_BOOKINGS_PER_RECORD);
+            LogRecords.putBookingsAdded(this.recordBuffer.clear(), bookings.subList(from, to), to < bookings.size());
+            this.backlog.append(this.recordBuffer.flip());
+        }
+    }
+
+    @Override
+    public synchronized void onBookingUpdated(Booking previous, Booking updated) {
+        LogRecords.putBookingUpdated(this.recordBuffer.clear(), updated);
+        this.backlog.append(this.recordBuffer.flip());
+    }
+
+    @Override
+    public synchronized void onBookingRemoved(Booking booking) {
+        LogRecords.putBookingRemoved(this.recordBuffer.clear(), booking);
+        this.backlog.append(this.recordBuffer.flip());
+    }
+
+    @Override
+    public synchronized void onBookingsArchived(List<Booking> bookings) {
+        for (int from = 0; from < bookings.size(); from += LogRecords.MAX_IDS_PER_RECORD) {
+            int to = Math.min(bookings.size(), from + LogRecords.MAX_IDS_PER_RECORD);
+            LogRecords.putBookingsArchived(this.recordBuffer.clear(), bookings.subList(from, to), to < bookings.size());
+            this.backlog.append(this.recordBuffer.flip());
+        }
+    }
+
+    /**
+     * Sends the snapshot and then the backlog to a connected replica until the connection
+     * fails or the replica falls further behind than the backlog holds.
+     */
+    void stream(SocketChannel channel, String address) throws IOException, InterruptedException {
+        AtomicLong sentPosition = new AtomicLong();
+        this.sentPositionsByReplica.put(address, sentPosition);
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(ReplicationProtocol.FRAME_HEADER_BYTES);
+            ByteBuffer frame = ByteBuffer.allocateDirect(ReplicationProtocol.MAX_FRAME_BYTES);
+            long position = this.sendSnapshot(channel, header, frame);
+
+            while (true) {
+                long next = this.backlog.read(position, frame.clear(), ReplicationProtocol.HEARTBEAT_MILLIS);
+
+                if (next == ReplicationBacklog.OVERRUN) {
+                    throw new IOException("the replica fell behind the replication backlog");
+                }
+
+                ReplicationProtocol.putFrameHeader(header, ReplicationProtocol.LOG, next, this.backlog.end(), frame.flip().remaining());
+                ReplicationProtocol.write(channel, header, frame);
+                position = next;
+                sentPosition.set(position);
+            }
+        } finally {
+            this.sentPositionsByReplica.remove(address);
+        }
+    }
+
+    /**
+     * Sends the rooms, guests and bookings as log records. Bookings are read first, so every
+     * room they refer to is in the list read after them; a guest merged away in between is
+     * sent as well, as in a snapshot, and removed again by the backlog.
+     *
+     * @return the backlog position the replica continues from
+     */
+    private long sendSnapshot(SocketChannel channel, ByteBuffer header, ByteBuffer frame) throws IOException {
+        long[] position = new long[1];
+
+        this.repositories.roomRepository().runWithChangesPaused(() ->
+                this.repositories.guestRepository().runWithChangesPaused(() ->
+                        this.repositories.bookingRepository().runWithChangesPaused(() ->
+                                position[0] = this.backlog.end())));
+
+        List<Booking> bookings = this.repositories.bookingRepository().getAllBookings();
+        List<Guest> guests = SnapshotStore.withReferencedGuests(bookings, this.repositories.guestRepository().getAllGuests());
+        List<Room> rooms = this.repositories.roomRepository().getAllRooms();
+        frame.clear();
+
+        for (Room room : rooms) {
+            flushIfFull(channel, header, frame);
+            LogRecords.putRoomAdded(frame, room);
+        }
+
+        for (Guest guest : guests) {
+            flushIfFull(channel, header, frame);
+            LogRecords.putGuestAdded(frame, guest);
+        }
+
+        for (int from = 0; from < bookings.size(); from += LogRecords.MAX_BOOKINGS_PER_RECORD) {
+            flushIfFull(channel, header, frame);
+            LogRecords.putBookingsAdded(frame, bookings.subList(from, Math.min(bookings.size(), from + LogRecords.MAX_BOOKINGS_PER_RECORD)), false);
+        }
+
+        flush(channel, header, frame);
+        return position[0];
+    }
+
+    private static void flushIfFull(SocketChannel channel, ByteBuffer header, ByteBuffer frame) throws IOException {
+        if (frame.remaining() < LogRecords.MAX_RECORD_BYTES) {
+            flush(channel, header, frame);
+        }
+    }
+
+    private static void flush(SocketChannel channel, ByteBuffer header, ByteBuffer frame) throws IOException {
+        ReplicationProtocol.putFrameHeader(header, ReplicationProtocol.SNAPSHOT, 0, 0, frame.flip().remaining());
+        ReplicationProtocol.write(channel, header, frame);
+        frame.clear();
+    }
+}
@@ -2,24 +2,456 @@ package developer.ezandro.repositories;
 
 import module java.base;
 import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.DailyCounts;
 import developer.ezandro.exceptions.BookingNotFoundException;
 
-public class BookingRepository {
-    private final List<Booking> bookings = new ArrayList<>();
+public class BookingRepository implements AutoCloseable {
+    private static final int MAX_ARCHIVE_ATTEMPTS = 3;
+
+    private final BookingStore bookingStore;
+    private final Map<Integer, RoomBookings> bookingsByRoom = new ConcurrentHashMap<>();
+    private final OccupancyIndex occupancyIndex = new OccupancyIndex();
+    private final DailyCounters dailyCounters = new DailyCounters();
+    private final List<RepositoryListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+
+    public BookingRepository() {
+        this(new HeapBookingStore());
+    }
+
+    public BookingRepository(BookingStore bookingStore) {
+        this.bookingStore = bookingStore;
+    }
+
+    public void addListener(RepositoryListener listener) {
+        this.listeners.add(listener);
+    }
 
     public void addBooking(Booking booking) {
-        this.bookings.add(booking);
+        RoomBookings roomBookings = this.roomBookings(booking.room().id());
+
+        roomBookings.lock();
+        try {
+            this.index(roomBookings, booking);
+        } finally {
+            roomBookings.unlock();
+        }
+    }
+
+    /**
+     * Adds the booking unless it overlaps an existing booking of the same room. The check
+     * and the insert run under the room's lock, so concurrent requests for the same room
+     * cannot both succeed while requests for different rooms never wait on each other.
+     */
+    public boolean addBookingIfAvailable(Booking booking) {
+        RoomBookings roomBookings = this.roomBookings(booking.room().id());
+
+        roomBookings.lock();
+        try {
+            if (roomBookings.overlaps(booking.checkInDate(), booking.checkOutDate())) {
+                return false;
+            }
+
+            this.index(roomBookings, booking);
+            return true;
+        } finally {
+            roomBookings.unlock();
+        }
+    }
+
+    /**
+     * Adds all bookings or none of them. The rooms involved are locked in id order, then
+     * every booking is checked against its room's bookings and against the other bookings
+     * of the batch before any of them is written.
+     *
+     * @return the first booking that conflicts, or empty if the whole batch was added
+     */
+    public Optional<Booking> addBookingsIfAvailable(List<Booking> newBookings) {
+        Map<Integer, List<Booking>> newBookingsByRoom = newBookings.stream()
+                .collect(Collectors.groupingBy(booking -> booking.room().id(), TreeMap::new, Collectors.toList()));
+        List<RoomBookings> lockedRooms = newBookingsByRoom.keySet().stream()
+                .map(this::roomBookings)
+                .toList();
+
+        lockedRooms.forEach(RoomBookings::lock);
+        try {
+            Optional<Booking> conflictingBooking = this.findConflictingBooking(newBookingsByRoom);
+
+            if (conflictingBooking.isPresent()) {
+                return conflictingBooking;
+            }
+
+            this.changeLock.readLock().lock();
+            try {
+                this.listeners.forEach(listener -> listener.onBookingsAdded(newBookings));
+                newBookings.forEach(booking -> this.apply(this.roomBookings(booking.room().id()), booking));
+            } finally {
+                this.changeLock.readLock().unlock();
+            }
+
+            return Optional.empty();
+        } finally {
+            lockedRooms.forEach(RoomBookings::unlock);
+        }
+    }
+
+    /**
+     * Adds a large set of bookings all or none, like {@link #addBookingsIfAvailable}, but
+     * indexes them once as a whole instead of one by one: rooms are checked and indexed in
+     * parallel, and the night indexes get one update per night rather than one per booking.
+     *
+     * @return a booking that conflicts, or empty if every booking was added
+     */
+    public Optional<Booking> addBookingsInBulk(List<Booking> newBookings) {
+        Map<Integer, List<Booking>> newBookingsByRoom = newBookings.parallelStream()
+                .collect(Collectors.groupingByConcurrent(booking -> booking.room().id()));
+        List<RoomBookings> lockedRooms = new TreeSet<>(newBookingsByRoom.keySet()).stream()
+                .map(this::roomBookings)
+                .toList();
+
+        lockedRooms.forEach(RoomBookings::lock);
+        try {
+            Optional<Booking> conflictingBooking = newBookingsByRoom.entrySet().parallelStream()
+                    .flatMap(roomEntry -> this.findConflictingBooking(roomEntry.getKey(), roomEntry.getValue()).stream())
+                    .findAny();
+
+            if (conflictingBooking.isPresent()) {
+                return conflictingBooking;
+            }
+
+            this.changeLock.readLock().lock();
+            try {
+                this.listeners.forEach(listener -> listener.onBookingsAdded(newBookings));
+                newBookingsByRoom.entrySet().parallelStream()
+                        .forEach(roomEntry -> this.roomBookings(roomEntry.getKey()).addAll(roomEntry.getValue()));
+                this.bookingStore.putAll(newBookings);
+                this.occupancyIndex.occupyAll(newBookings);
+                this.dailyCounters.addAll(newBookings);
+            } finally {
+                this.changeLock.readLock().unlock();
+            }
+
+            return Optional.empty();
+        } finally {
+            lockedRooms.forEach(RoomBookings::unlock);
+        }
+    }
+
+    /**
+     * Replaces a booking atomically with the result of {@code update}, which must keep its
+     * id and room. The new stay is not checked for conflicts.
+     */
+    public Booking updateBooking(int id, UnaryOperator<Booking> update) {
+        RoomBookings roomBookings = this.roomBookings(this.findBookingById(id).room().id());
+
+        roomBookings.lock();
+        try {
+            Booking current = this.findBookingById(id);
+            Booking updated = update.apply(current);
+
+            if (updated.id() != current.id() || updated.room().id() != current.room().id()) {
+                throw new IllegalArgumentException("An update must keep the booking's id and room.");
+            }
+
+            this.replace(roomBookings, current, updated);
+            return updated;
+        } finally {
+            roomBookings.unlock();
+        }
+    }
+
+    /**
+     * Moves a booking to a new stay unless the nights it adds overlap another booking of
+     * the room; nights it already had are not checked again.
+     *
+     * @return the moved booking, or empty if the new stay conflicts
+     */
+    public Optional<Booking> rescheduleBookingIfAvailable(int id, LocalDate checkIn, LocalDate checkOut) {
+        RoomBookings roomBookings = this.roomBookings(this.findBookingById(id).room().id());
+
+        roomBookings.lock();
+        try {
+            Booking current = this.findBookingById(id);
+
+            if (roomBookings.overlapsOthers(current, checkIn, checkOut)) {
+                return Optional.empty();
+            }
+
+            Booking updated = new Booking(current.id(), current.room(), current.guest(), checkIn, checkOut, current.nightlyRateCents());
+            this.replace(roomBookings, current, updated);
+            return Optional.of(updated);
+        } finally {
+            roomBookings.unlock();
+        }
+    }
+
+    /**
+     * Removes a booking from every index at once, freeing its nights for new bookings.
+     */
+    public Booking removeBooking(int id) {
+        RoomBookings roomBookings = this.roomBookings(this.findBookingById(id).room().id());
+
+        roomBookings.lock();
+        try {
+            Booking booking = this.findBookingById(id);
+
+            this.changeLock.readLock().lock();
+            try {
+                this.listeners.forEach(listener -> listener.onBookingRemoved(booking));
+                this.unindex(roomBookings, booking);
+            } finally {
+                this.changeLock.readLock().unlock();
+            }
+
+            return booking;
+        } finally {
+            roomBookings.unlock();
+        }
+    }
+
+    /**
+     * Moves the bookings checking out before {@code month} out of the repository, one
+     * check-out month at a time: {@code archive} stores a month's bookings, and only then
+     * are they dropped from every index, so conflict checks and listings are left with
+     * current and future stays. The month is written while bookings keep changing; its rooms
+     * are locked only to check that it is still accurate, commit it and drop the bookings.
+     *
+     * @return the number of bookings archived
+     */
+    public int archiveBookingsCheckingOutBefore(YearMonth month, MonthArchive archive) {
+        int archivedBookings = 0;
+
+        for (YearMonth checkOutMonth : this.bookingStore.checkOutMonthsBefore(month)) {
+            archivedBookings += this.archiveMonth(checkOutMonth, archive);
+        }
+
+        return archivedBookings;
+    }
+
+    /**
+     * Runs the action while no change is in flight, so every change already written to the
+     * listeners is also visible in the repository. Readers are not blocked.
+     */
+    public void runWithChangesPaused(Runnable action) {
+        this.changeLock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            this.changeLock.writeLock().unlock();
+        }
+    }
+
+    public boolean hasConflictingBooking(int roomId, LocalDate checkIn, LocalDate checkOut) {
+        RoomBookings roomBookings = this.bookingsByRoom.get(roomId);
+        return Objects.nonNull(roomBookings) && roomBookings.overlaps(checkIn, checkOut);
+    }
+
+    /**
+     * Returns whether a room id is occupied on at least one night between {@code from}
+     * (inclusive) and {@code to} (exclusive).
+     */
+    public IntPredicate findOccupiedRoomIds(LocalDate from, LocalDate to) {
+        return this.occupancyIndex.occupiedRooms(from, to);
+    }
+
+    public long countOccupiedRooms(LocalDate night) {
+        return this.dailyCounters.countRoomsSold(night);
+    }
+
+    /**
+     * Returns the day's rooms sold, arrivals and departures per room type. Archived stays
+     * are no longer counted.
+     */
+    public DailyCounts countDay(LocalDate date) {
+        return this.dailyCounters.countDay(date);
     }
 
     public Booking findBookingById(int id) {
-        return this.bookings
-                .stream()
-                .filter(booking -> booking.id() == id)
-                .findFirst()
-                .orElseThrow(() -> new BookingNotFoundException(id));
+        Booking booking = this.bookingStore.find(id);
+
+        if (Objects.isNull(booking)) {
+            throw new BookingNotFoundException(id);
+        }
+
+        return booking;
+    }
+
+    public boolean existsById(int id) {
+        return this.bookingStore.contains(id);
+    }
+
+    /**
+     * Streams the bookings with an ID above {@code afterId} that match the filter, in ID
+     * order. A room filter is served from that room's own index instead of a full scan.
+     */
+    public Stream<Booking> streamBookings(int afterId, BookingFilter filter) {
+        if (Objects.isNull(filter.roomId())) {
+            return this.bookingStore.streamAfter(afterId).filter(filter);
+        }
+
+        RoomBookings roomBookings = this.bookingsByRoom.get(filter.roomId());
+
+        if (Objects.isNull(roomBookings)) {
+            return Stream.empty();
+        }
+
+        return Arrays.stream(roomBookings.bookingIdsBetween(filter.from(), filter.to()))
+                .filter(id -> id > afterId)
+                .sorted()
+                .mapToObj(this.bookingStore::find)
+                .filter(booking -> Objects.nonNull(booking) && filter.test(booking));
+    }
+
+    public int countBookings() {
+        return this.bookingStore.size();
     }
 
     public List<Booking> getAllBookings() {
-        return Collections.unmodifiableList(this.bookings);
+        return this.bookingStore.streamAfter(0).toList();
+    }
+
+    /**
+     * Releases the booking store, e.g. its off-heap memory. The repository must not be
+     * used afterwards.
+     */
+    @Override
+    public void close() {
+        this.bookingStore.close();
+    }
+
+    private RoomBookings roomBookings(int roomId) {
+        return this.bookingsByRoom.computeIfAbsent(roomId, _ -> new RoomBookings());
+    }
+
+    private void index(RoomBookings roomBookings, Booking booking) {
+        this.changeLock.readLock().lock();
+        try {
+            this.listeners.forEach(listener -> listener.onBookingAdded(booking));
+            this.apply(roomBookings, booking);
+        } finally {
+            this.changeLock.readLock().unlock();
+        }
+    }
+
+    private void apply(RoomBookings roomBookings, Booking booking) {
+        roomBookings.add(booking);
+        this.bookingStore.put(booking);
+        this.occupancyIndex.occupy(booking);
+        this.dailyCounters.add(booking);
+    }
+
+    private void unindex(RoomBookings roomBookings, Booking booking) {
+        roomBookings.remove(booking);
+        this.bookingStore.remove(booking);
+        this.occupancyIndex.release(booking, roomBookings);
+        this.dailyCounters.remove(booking);
+    }
+
+    /**
+     * Archives the month's bookings as read before the month was prepared. If one of their
+     * rooms has gained, lost or changed a booking of the month by the time its lock is
+     * taken, the prepared month is discarded and the month read again, up to three times;
+     * after that the month waits for the next run, as does a booking added for another room
+     * in the meantime.
+     */
+    private int archiveMonth(YearMonth month, MonthArchive archive) {
+        for (int attempt = 0; attempt < MAX_ARCHIVE_ATTEMPTS; attempt++) {
+            List<Booking> bookings = this.bookingStore.bookingsCheckingOutIn(month);
+
+            if (bookings.isEmpty()) {
+                return 0;
+            }
+
+            MonthArchive.Prepared prepared = archive.prepare(month, bookings);
+            Set<Integer> roomIds = bookings.stream()
+                    .map(booking -> booking.room().id())
+                    .collect(Collectors.toCollection(TreeSet::new));
+            List<RoomBookings> lockedRooms = roomIds.stream()
+                    .map(this::roomBookings)
+                    .toList();
+
+            lockedRooms.forEach(RoomBookings::lock);
+            try {
+                if (!this.holdsExactly(month, roomIds, bookings)) {
+                    prepared.discard();
+                    continue;
+                }
+
+                prepared.commit();
+
+                this.changeLock.readLock().lock();
+                try {
+                    this.listeners.forEach(listener -> listener.onBookingsArchived(bookings));
+                    bookings.forEach(booking -> this.unindex(this.roomBookings(booking.room().id()), booking));
+                } finally {
+                    this.changeLock.readLock().unlock();
+                }
+
+                return bookings.size();
+            } finally {
+                lockedRooms.forEach(RoomBookings::unlock);
+            }
+        }
+
+        return 0;
+    }
+
+    private boolean holdsExactly(YearMonth month, Set<Integer> roomIds, List<Booking> bookings) {
+        return this.bookingStore.bookingsCheckingOutIn(month).stream()
+                .filter(booking -> roomIds.contains(booking.room().id()))
+                .toList()
+                .equals(bookings);
+    }
+
+    /**
+     * Swaps {@code current} for {@code updated} in every index; the new stay is indexed
+     * before the old one is dropped, so its kept nights never look free to readers.
+     */
+    private void replace(RoomBookings roomBookings, Booking current, Booking updated) {
+        this.changeLock.readLock().lock();
+        try {
+            this.listeners.forEach(listener -> listener.onBookingUpdated(current, updated));
+            roomBookings.add(updated);
+            if (!updated.checkInDate().equals(current.checkInDate())) {
+                roomBookings.remove(current);
+            }
+            this.bookingStore.put(updated);
+            this.occupancyIndex.move(current, updated, roomBookings);
+            this.dailyCounters.add(updated);
+            this.dailyCounters.remove(current);
+        } finally {
+            this.changeLock.readLock().unlock();
+        }
+    }
+
+    private Optional<Booking> findConflictingBooking(Map<Integer, List<Booking>> newBookingsByRoom) {
+        for (Map.Entry<Integer, List<Booking>> roomEntry : newBookingsByRoom.entrySet()) {
+            Optional<Booking> conflictingBooking = this.findConflictingBooking(roomEntry.getKey(), roomEntry.getValue());
+
+            if (conflictingBooking.isPresent()) {
+                return conflictingBooking;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<Booking> findConflictingBooking(int roomId, List<Booking> roomNewBookings) {
+        RoomBookings roomBookings = this.roomBookings(roomId);
+        Booking previousBooking = null;
+
+        for (Booking booking : roomNewBookings.stream().sorted(Comparator.comparing(Booking::checkInDate)).toList()) {
+            boolean overlapsPrevious = Objects.nonNull(previousBooking)
+                    && booking.checkInDate().isBefore(previousBooking.checkOutDate());
+
+            if (overlapsPrevious || roomBookings.overlaps(booking.checkInDate(), booking.checkOutDate())) {
+                return Optional.of(booking);
+            }
+
+            previousBooking = booking;
+        }
+
+        return Optional.empty();
     }
-}
\ No newline at end of file
+}
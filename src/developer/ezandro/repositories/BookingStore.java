@@ -0,0 +1,48 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+
+/**
+ * Holds the bookings of a {@link BookingRepository} by id and by check-out month. The
+ * repository writes a booking only while holding its room's lock; reads may come at any
+ * time.
+ */
+public interface BookingStore extends AutoCloseable {
+    /**
+     * Adds the booking, or replaces the one with the same id.
+     */
+    void put(Booking booking);
+
+    void putAll(Collection<Booking> bookings);
+
+    void remove(Booking booking);
+
+    /**
+     * @return the booking with the given id, or null if there is none
+     */
+    Booking find(int id);
+
+    boolean contains(int id);
+
+    int size();
+
+    /**
+     * Streams the bookings with an id above {@code afterId}, in id order.
+     */
+    Stream<Booking> streamAfter(int afterId);
+
+    /**
+     * Returns, in order, the check-out months before {@code month} that may still have
+     * bookings.
+     */
+    SortedSet<YearMonth> checkOutMonthsBefore(YearMonth month);
+
+    /**
+     * Returns the bookings checking out in the month, in id order.
+     */
+    List<Booking> bookingsCheckingOutIn(YearMonth month);
+
+    @Override
+    void close();
+}
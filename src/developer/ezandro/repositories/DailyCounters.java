@@ -0,0 +1,128 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.DailyCounts;
+import developer.ezandro.entities.RoomType;
+
+/**
+ * Rooms sold, arrivals and departures per day and room type, kept current as bookings change.
+ */
+final class DailyCounters {
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    private static final int ROOMS_SOLD = 0;
+    private static final int ARRIVALS = 1;
+    private static final int DEPARTURES = 2;
+    private static final int COUNTERS_PER_ROOM_TYPE = 3;
+    private static final int COUNTERS_PER_DAY = ROOM_TYPES.length * COUNTERS_PER_ROOM_TYPE;
+
+    private final Map<Long, LongAdder[]> countersByDay = new ConcurrentHashMap<>();
+
+    void add(Booking booking) {
+        this.count(booking, 1);
+    }
+
+    void remove(Booking booking) {
+        this.count(booking, -1);
+    }
+
+    /**
+     * Counts many bookings at once: the counts are summed per day in parallel first, so each
+     * counter is updated once per day instead of once per booking.
+     */
+    void addAll(Collection<Booking> bookings) {
+        Map<Long, long[]> countsByDay = bookings.parallelStream().collect(
+                HashMap::new,
+                DailyCounters::sum,
+                (left, right) -> right.forEach((day, counts) -> left.merge(day, counts, (leftCounts, rightCounts) -> {
+                    for (int i = 0; i < leftCounts.length; i++) {
+                        leftCounts[i] += rightCounts[i];
+                    }
+                    return leftCounts;
+                }))
+        );
+
+        countsByDay.forEach((day, counts) -> {
+            LongAdder[] counters = this.counters(day);
+
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    counters[i].add(counts[i]);
+                }
+            }
+        });
+    }
+
+    DailyCounts countDay(LocalDate date) {
+        LongAdder[] counters = this.countersByDay.get(date.toEpochDay());
+        Map<RoomType, DailyCounts.Counts> countsByRoomType = new EnumMap<>(RoomType.class);
+
+        for (RoomType roomType : ROOM_TYPES) {
+            countsByRoomType.put(roomType, Objects.isNull(counters)
+                    ? new DailyCounts.Counts(0, 0, 0)
+                    : new DailyCounts.Counts(
+                            counters[index(roomType, ROOMS_SOLD)].sum(),
+                            counters[index(roomType, ARRIVALS)].sum(),
+                            counters[index(roomType, DEPARTURES)].sum()
+                    ));
+        }
+
+        return new DailyCounts(date, countsByRoomType);
+    }
+
+    long countRoomsSold(LocalDate night) {
+        LongAdder[] counters = this.countersByDay.get(night.toEpochDay());
+
+        if (Objects.isNull(counters)) {
+            return 0;
+        }
+
+        long roomsSold = 0;
+        for (RoomType roomType : ROOM_TYPES) {
+            roomsSold += counters[index(roomType, ROOMS_SOLD)].sum();
+        }
+        return roomsSold;
+    }
+
+    private void count(Booking booking, int delta) {
+        RoomType roomType = booking.room().roomType();
+        long checkIn = booking.checkInDate().toEpochDay();
+        long checkOut = booking.checkOutDate().toEpochDay();
+
+        for (long night = checkIn; night < checkOut; night++) {
+            this.counters(night)[index(roomType, ROOMS_SOLD)].add(delta);
+        }
+
+        this.counters(checkIn)[index(roomType, ARRIVALS)].add(delta);
+        this.counters(checkOut)[index(roomType, DEPARTURES)].add(delta);
+    }
+
+    private static void sum(Map<Long, long[]> countsByDay, Booking booking) {
+        RoomType roomType = booking.room().roomType();
+        long checkIn = booking.checkInDate().toEpochDay();
+        long checkOut = booking.checkOutDate().toEpochDay();
+
+        for (long night = checkIn; night < checkOut; night++) {
+            countsByDay.computeIfAbsent(night, _ -> new long[COUNTERS_PER_DAY])[index(roomType, ROOMS_SOLD)]++;
+        }
+
+        countsByDay.computeIfAbsent(checkIn, _ -> new long[COUNTERS_PER_DAY])[index(roomType, ARRIVALS)]++;
+        countsByDay.computeIfAbsent(checkOut, _ -> new long[COUNTERS_PER_DAY])[index(roomType, DEPARTURES)]++;
+    }
+
+    private LongAdder[] counters(long day) {
+        return this.countersByDay.computeIfAbsent(day, _ -> newCounters());
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[COUNTERS_PER_DAY];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static int index(RoomType roomType, int counter) {
+        return roomType.ordinal() * COUNTERS_PER_ROOM_TYPE + counter;
+    }
+}
@@ -0,0 +1,348 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Guest;
+
+/**
+ * Name search over guests by word prefix and, through trigrams, by misspelt word.
+ */
+final class GuestNameIndex {
+    private static final int MAX_CANDIDATES = 2_000;
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final int MIN_TWO_EDITS_LENGTH = 8;
+    private static final double PREFIX_SCORE = 0.75;
+    private static final double FUZZY_SCORE = 0.7;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, IndexedName> namesByText = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Word> wordsByText = new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<Word>> wordsByTrigram = new ConcurrentHashMap<>();
+
+    void add(Guest guest) {
+        this.namesByText.computeIfAbsent(normalize(guest.name()), this::indexName)
+                .guests()
+                .add(guest);
+    }
+
+    /**
+     * Returns up to {@code limit} guests whose name has, for every query word, a word that
+     * equals it, starts with it or is within a small edit distance of it, best matches first.
+     */
+    List<Guest> search(String query, int limit, IntFunction<Guest> guestById) {
+        String queryText = normalize(query);
+        List<String> queryWords = words(queryText);
+
+        if (queryWords.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        List<Map<String, Double>> wordScores = new ArrayList<>(queryWords.size());
+        for (String queryWord : queryWords) {
+            Map<String, Double> scores = this.matchWord(queryWord);
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+            wordScores.add(scores);
+        }
+
+        Map<String, Double> rarest = Collections.min(wordScores, Comparator.comparingInt(this::countNames));
+        PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::score));
+        int candidates = 0;
+
+        IndexedName exactName = this.namesByText.get(queryText);
+        if (Objects.nonNull(exactName)) {
+            best.add(new Match(exactName, score(exactName, queryText, wordScores)));
+        }
+
+        List<String> matchedWords = new ArrayList<>(rarest.keySet());
+        matchedWords.sort(Comparator.comparingDouble(rarest::get).reversed());
+
+        for (String matchedWord : matchedWords) {
+            AppendOnlyList<IndexedName> names = this.wordsByText.get(matchedWord).names();
+            int size = names.size();
+
+            for (int i = 0; i < size && candidates < MAX_CANDIDATES; i++) {
+                IndexedName name = names.get(i);
+                candidates++;
+
+                if (name == exactName || !matchedWord.equals(firstMatchingWord(name, rarest))) {
+                    continue;
+                }
+
+                double score = score(name, queryText, wordScores);
+                if (score > 0 && (best.size() < limit || score > best.peek().score())) {
+                    best.add(new Match(name, score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+
+        Match[] ranked = new Match[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll();
+        }
+
+        List<Guest> guests = new ArrayList<>();
+        for (Match match : ranked) {
+            AppendOnlyList<Guest> nameGuests = match.name().guests();
+            int size = nameGuests.size();
+
+            for (int i = 0; i < size && guests.size() < limit; i++) {
+                Guest guest = nameGuests.get(i);
+                if (guestById.apply(guest.id()) == guest) {
+                    guests.add(guest);
+                }
+            }
+        }
+
+        return guests;
+    }
+
+    private IndexedName indexName(String text) {
+        List<Word> words = words(text).stream().distinct().map(this::findOrIndexWord).toList();
+        // Sharing the indexed word's string lets score lookups match on identity.
+        IndexedName name = new IndexedName(text, words.stream().map(Word::text).toList(), new AppendOnlyList<>());
+
+        for (Word word : words) {
+            word.names().add(name);
+        }
+
+        return name;
+    }
+
+    private Word findOrIndexWord(String text) {
+        Word word = this.wordsByText.get(text);
+        if (Objects.nonNull(word)) {
+            return word;
+        }
+
+        Word indexed = new Word(text, new AppendOnlyList<>());
+        word = this.wordsByText.putIfAbsent(text, indexed);
+        if (Objects.nonNull(word)) {
+            return word;
+        }
+
+        for (long trigram : trigrams(text)) {
+            this.wordsByTrigram.computeIfAbsent(trigram, _ -> ConcurrentHashMap.newKeySet()).add(indexed);
+        }
+
+        return indexed;
+    }
+
+    /**
+     * Scores the indexed words a query word matches: 1 for the word itself, a little less
+     * for words it starts with, less again for words one edit away, or two for long words.
+     */
+    private Map<String, Double> matchWord(String queryWord) {
+        Map<String, Double> scores = new HashMap<>();
+
+        for (String word : this.wordsByText.subMap(queryWord, true, queryWord + Character.MAX_VALUE, false).keySet()) {
+            scores.put(word, word.length() == queryWord.length()
+                    ? 1.0
+                    : PREFIX_SCORE + (1 - PREFIX_SCORE) * queryWord.length() / word.length());
+        }
+
+        if (queryWord.length() < MIN_FUZZY_LENGTH) {
+            return scores;
+        }
+
+        int maxDistance = queryWord.length() < MIN_TWO_EDITS_LENGTH ? 1 : 2;
+        long[] queryTrigrams = trigrams(queryWord);
+        Map<Word, Integer> sharedTrigrams = new HashMap<>();
+
+        for (long trigram : queryTrigrams) {
+            for (Word word : this.wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+
+        // One edit changes at most four trigrams (a transposition), so words sharing fewer cannot be close enough.
+        int minShared = queryTrigrams.length - 4 * maxDistance;
+
+        sharedTrigrams.forEach((word, shared) -> {
+            if (shared < minShared
+                    || scores.containsKey(word.text())
+                    || Math.abs(word.text().length() - queryWord.length()) > maxDistance) {
+                return;
+            }
+
+            int distance = editDistance(queryWord, word.text());
+            if (distance <= maxDistance) {
+                scores.put(word.text(), FUZZY_SCORE * (1 - (double) distance / Math.max(queryWord.length(), word.text().length())));
+            }
+        });
+
+        return scores;
+    }
+
+    private int countNames(Map<String, Double> wordScores) {
+        int names = 0;
+        for (String word : wordScores.keySet()) {
+            names += this.wordsByText.get(word).names().size();
+        }
+        return names;
+    }
+
+    /**
+     * Returns the first word of the name that is among the matched words, so a name reached
+     * through several of them is scored only once.
+     */
+    private static String firstMatchingWord(IndexedName name, Map<String, Double> matchedWords) {
+        for (String word : name.words()) {
+            if (matchedWords.containsKey(word)) {
+                return word;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sums, per query word, the best score among the name's words, or returns 0 if a query
+     * word matches none of them. Exact names win outright, and among equal matches shorter
+     * names come first.
+     */
+    private static double score(IndexedName name, String queryText, List<Map<String, Double>> wordScores) {
+        double score = name.text().equals(queryText) ? wordScores.size() : 0;
+
+        for (Map<String, Double> scores : wordScores) {
+            double bestWordScore = 0;
+            for (String word : name.words()) {
+                bestWordScore = Math.max(bestWordScore, scores.getOrDefault(word, 0.0));
+            }
+
+            if (bestWordScore == 0) {
+                return 0;
+            }
+            score += bestWordScore;
+        }
+
+        return score - 0.001 * name.text().length();
+    }
+
+    /**
+     * Edit distance counting an adjacent transposition as one edit, since swapped letters
+     * are the most common typo in names.
+     */
+    private static int editDistance(String source, String target) {
+        int[] beforePrevious = new int[target.length() + 1];
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+
+            for (int j = 1; j <= target.length(); j++) {
+                int substitution = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + substitution);
+
+                if (i > 1 && j > 1
+                        && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+            }
+
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+
+        return previous[target.length()];
+    }
+
+    static String normalize(String name) {
+        String lowerCase = name.strip().toLowerCase(Locale.ROOT);
+
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (lowerCase.charAt(i) >= 0x80) {
+                return DIACRITICS.matcher(Normalizer.normalize(lowerCase, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+
+        return lowerCase;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>(4);
+        int start = -1;
+
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letterOrDigit = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+
+            if (letterOrDigit && start < 0) {
+                start = i;
+            } else if (!letterOrDigit && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+
+        return words;
+    }
+
+    /**
+     * Distinct trigrams of the word padded with one space on each side, so its first and last
+     * letters count too. Each trigram is packed into a long.
+     */
+    private static long[] trigrams(String word) {
+        String padded = " " + word + " ";
+        long[] trigrams = new long[padded.length() - 2];
+
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = (long) padded.charAt(i) << 32 | (long) padded.charAt(i + 1) << 16 | padded.charAt(i + 2);
+        }
+        Arrays.sort(trigrams);
+
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (distinct == 0 || trigrams[i] != trigrams[distinct - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    private record IndexedName(String text, List<String> words, AppendOnlyList<Guest> guests) {
+    }
+
+    private record Word(String text, AppendOnlyList<IndexedName> names) {
+    }
+
+    private record Match(IndexedName name, double score) {
+    }
+
+    /**
+     * Growable list with lock-free reads: a reader that reads the size first sees every
+     * element below it, because the size is published after the element.
+     */
+    private static final class AppendOnlyList<E> {
+        private volatile Object[] elements = new Object[2];
+        private volatile int size;
+
+        synchronized void add(E element) {
+            if (this.size == this.elements.length) {
+                this.elements = Arrays.copyOf(this.elements, this.size * 2);
+            }
+
+            this.elements[this.size] = element;
+            this.size++;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(int index) {
+            return (E) this.elements[index];
+        }
+    }
+}
@@ -5,21 +5,121 @@ import developer.ezandro.entities.Guest;
 import developer.ezandro.exceptions.GuestNotFoundException;
 
 public class GuestRepository {
-    private final List<Guest> guests = new ArrayList<>();
+    private final NavigableMap<Integer, Guest> guests = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Guest> guestsById = new ConcurrentHashMap<>();
+    private final Map<String, Guest> guestsByEmail = new ConcurrentHashMap<>();
+    private final GuestNameIndex nameIndex = new GuestNameIndex();
+    private final List<RepositoryListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+
+    public void addListener(RepositoryListener listener) {
+        this.listeners.add(listener);
+    }
 
     public void addGuest(Guest guest) {
-        this.guests.add(guest);
+        this.changeLock.readLock().lock();
+        try {
+            this.listeners.forEach(listener -> listener.onGuestAdded(guest));
+            this.guests.put(guest.id(), guest);
+            this.guestsById.put(guest.id(), guest);
+            this.guestsByEmail.putIfAbsent(normalizeEmail(guest.email()), guest);
+            this.nameIndex.add(guest);
+        } finally {
+            this.changeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the guest already registered with the same email, or adds the given one.
+     * Concurrent calls for the same email all return the same guest.
+     */
+    public Guest findOrAddGuest(Guest guest) {
+        String email = normalizeEmail(guest.email());
+
+        this.changeLock.readLock().lock();
+        try {
+            Guest existingGuest = this.guestsByEmail.putIfAbsent(email, guest);
+
+            if (Objects.nonNull(existingGuest)) {
+                return existingGuest;
+            }
+
+            try {
+                this.listeners.forEach(listener -> listener.onGuestAdded(guest));
+            } catch (RuntimeException e) {
+                this.guestsByEmail.remove(email, guest);
+                throw e;
+            }
+
+            this.guests.put(guest.id(), guest);
+            this.guestsById.put(guest.id(), guest);
+            this.nameIndex.add(guest);
+            return guest;
+        } finally {
+            this.changeLock.readLock().unlock();
+        }
+    }
+
+    public void removeGuest(int id) {
+        this.changeLock.readLock().lock();
+        try {
+            Guest guest = this.findGuestById(id);
+            this.listeners.forEach(listener -> listener.onGuestRemoved(guest));
+            this.guests.remove(id);
+            this.guestsById.remove(id);
+            this.guestsByEmail.remove(normalizeEmail(guest.email()), guest);
+        } finally {
+            this.changeLock.readLock().unlock();
+        }
+    }
+
+    public void runWithChangesPaused(Runnable action) {
+        this.changeLock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            this.changeLock.writeLock().unlock();
+        }
     }
 
     public Guest findGuestById(int id) {
-        return this.guests
-                .stream()
-                .filter(guest -> guest.id() == id)
-                .findFirst()
-                .orElseThrow(() -> new GuestNotFoundException(id));
+        Guest guest = this.guestsById.get(id);
+
+        if (Objects.isNull(guest)) {
+            throw new GuestNotFoundException(id);
+        }
+
+        return guest;
+    }
+
+    public Optional<Guest> findGuestByEmail(String email) {
+        return Optional.ofNullable(this.guestsByEmail.get(normalizeEmail(email)));
+    }
+
+    /**
+     * Finds guests by partial or misspelt name, best matches first.
+     */
+    public List<Guest> searchGuestsByName(String query, int limit) {
+        return this.nameIndex.search(query, limit, this.guestsById::get);
+    }
+
+    public boolean existsById(int id) {
+        return this.guestsById.containsKey(id);
+    }
+
+    public int countGuests() {
+        return this.guestsById.size();
+    }
+
+    public Stream<Guest> streamGuests(int afterId) {
+        return this.guests.tailMap(afterId, false).values().stream();
     }
 
     public List<Guest> getAllGuests() {
-        return Collections.unmodifiableList(this.guests);
+        return List.copyOf(this.guests.values());
+    }
+
+    public static String normalizeEmail(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+
+/**
+ * Keeps the {@link Booking} records themselves, indexed by id and partitioned by check-out
+ * month.
+ */
+final class HeapBookingStore implements BookingStore {
+    private final NavigableMap<Integer, Booking> bookings = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Booking> bookingsById = new ConcurrentHashMap<>();
+    private final NavigableMap<YearMonth, Map<Integer, Booking>> bookingsByCheckOutMonth = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void put(Booking booking) {
+        Booking previous = this.bookingsById.put(booking.id(), booking);
+        this.bookings.put(booking.id(), booking);
+        this.partition(booking).put(booking.id(), booking);
+
+        if (Objects.nonNull(previous) && !YearMonth.from(previous.checkOutDate()).equals(YearMonth.from(booking.checkOutDate()))) {
+            this.partition(previous).remove(previous.id(), previous);
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Booking> bookings) {
+        bookings.parallelStream().forEach(this::put);
+    }
+
+    @Override
+    public void remove(Booking booking) {
+        this.bookingsById.remove(booking.id());
+        this.bookings.remove(booking.id());
+        this.partition(booking).remove(booking.id(), booking);
+    }
+
+    @Override
+    public Booking find(int id) {
+        return this.bookingsById.get(id);
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return this.bookingsById.containsKey(id);
+    }
+
+    @Override
+    public int size() {
+        return this.bookingsById.size();
+    }
+
+    @Override
+    public Stream<Booking> streamAfter(int afterId) {
+        return this.bookings.tailMap(afterId, false).values().stream();
+    }
+
+    @Override
+    public SortedSet<YearMonth> checkOutMonthsBefore(YearMonth month) {
+        return this.bookingsByCheckOutMonth.headMap(month, false).navigableKeySet();
+    }
+
+    @Override
+    public List<Booking> bookingsCheckingOutIn(YearMonth month) {
+        Map<Integer, Booking> partition = this.bookingsByCheckOutMonth.get(month);
+
+        if (Objects.isNull(partition)) {
+            return List.of();
+        }
+
+        return partition.values().stream()
+                .sorted(Comparator.comparingInt(Booking::id))
+                .toList();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Partitions are never dropped, even when empty, so a booking cannot be added to one
+     * that is no longer in the map.
+     */
+    private Map<Integer, Booking> partition(Booking booking) {
+        return this.bookingsByCheckOutMonth.computeIfAbsent(
+                YearMonth.from(booking.checkOutDate()),
+                _ -> new ConcurrentHashMap<>()
+        );
+    }
+}
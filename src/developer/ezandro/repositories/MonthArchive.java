@@ -0,0 +1,20 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+
+/**
+ * Stores the bookings of a past check-out month in two steps, so the slow one runs without any room locked.
+ */
+public interface MonthArchive {
+    Prepared prepare(YearMonth month, List<Booking> bookings);
+
+    interface Prepared {
+        /**
+         * Makes the prepared month the stored one; it must be durable before this returns.
+         */
+        void commit();
+
+        void discard();
+    }
+}
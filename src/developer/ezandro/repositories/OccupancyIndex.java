@@ -0,0 +1,118 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+
+/**
+ * One bitset of occupied rooms per night. Rooms get dense slots of their own here, so a
+ * night's bitset grows with this property's rooms rather than with the ids of the chain.
+ */
+final class OccupancyIndex {
+    private final Map<Long, BitSet> occupiedRoomsByNight = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> slotsByRoomId = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    void occupy(Booking booking) {
+        int slot = this.slot(booking);
+
+        for (long night = booking.checkInDate().toEpochDay(); night < booking.checkOutDate().toEpochDay(); night++) {
+            this.occupiedRoomsByNight.compute(night, (_, nightRooms) -> {
+                BitSet rooms = Objects.nonNull(nightRooms) ? nightRooms : new BitSet();
+
+                synchronized (rooms) {
+                    rooms.set(slot);
+                }
+
+                return rooms;
+            });
+        }
+    }
+
+    /**
+     * Occupies the nights of many bookings at once: their rooms are gathered per night in
+     * parallel, and each night's bitset is then updated once.
+     */
+    void occupyAll(Collection<Booking> bookings) {
+        Map<Long, BitSet> roomsByNight = bookings.parallelStream().collect(
+                HashMap::new,
+                (nights, booking) -> {
+                    for (long night = booking.checkInDate().toEpochDay(); night < booking.checkOutDate().toEpochDay(); night++) {
+                        nights.computeIfAbsent(night, _ -> new BitSet()).set(this.slot(booking));
+                    }
+                },
+                (left, right) -> right.forEach((night, rooms) -> left.merge(night, rooms, (leftRooms, rightRooms) -> {
+                    leftRooms.or(rightRooms);
+                    return leftRooms;
+                }))
+        );
+
+        roomsByNight.forEach((night, rooms) -> this.occupiedRoomsByNight.compute(night, (_, nightRooms) -> {
+            if (Objects.isNull(nightRooms)) {
+                return rooms;
+            }
+
+            synchronized (nightRooms) {
+                nightRooms.or(rooms);
+            }
+
+            return nightRooms;
+        }));
+    }
+
+    /**
+     * Occupies the nights of {@code updated} before releasing the nights of {@code previous}
+     * it no longer covers, so a night kept by both is never seen as free in between.
+     */
+    void move(Booking previous, Booking updated, RoomBookings roomBookings) {
+        this.occupy(updated);
+        this.release(previous, roomBookings);
+    }
+
+    /**
+     * Frees the nights of a booking that no booking left in {@code roomBookings} covers. A
+     * night no room is occupied on any more is dropped, so cancelled stays leave nothing
+     * behind.
+     */
+    void release(Booking booking, RoomBookings roomBookings) {
+        int slot = this.slot(booking);
+
+        for (LocalDate night = booking.checkInDate(); night.isBefore(booking.checkOutDate()); night = night.plusDays(1)) {
+            if (roomBookings.overlaps(night, night.plusDays(1))) {
+                continue;
+            }
+
+            this.occupiedRoomsByNight.computeIfPresent(night.toEpochDay(), (_, nightRooms) -> {
+                synchronized (nightRooms) {
+                    nightRooms.clear(slot);
+                    return nightRooms.isEmpty() ? null : nightRooms;
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns whether a room id is occupied on at least one night in {@code [from, to)}.
+     */
+    IntPredicate occupiedRooms(LocalDate from, LocalDate to) {
+        BitSet occupiedSlots = new BitSet();
+
+        for (long night = from.toEpochDay(); night < to.toEpochDay(); night++) {
+            BitSet nightRooms = this.occupiedRoomsByNight.get(night);
+
+            if (Objects.nonNull(nightRooms)) {
+                synchronized (nightRooms) {
+                    occupiedSlots.or(nightRooms);
+                }
+            }
+        }
+
+        return roomId -> {
+            Integer slot = this.slotsByRoomId.get(roomId);
+            return Objects.nonNull(slot) && occupiedSlots.get(slot);
+        };
+    }
+
+    private int slot(Booking booking) {
+        return this.slotsByRoomId.computeIfAbsent(booking.room().id(), _ -> this.nextSlot.getAndIncrement());
+    }
+}
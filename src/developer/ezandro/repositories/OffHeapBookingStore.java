@@ -0,0 +1,303 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+
+/**
+ * Keeps bookings outside the Java heap as columns (id, room id, guest id, check-in and
+ * check-out epoch day, nightly rate), 32 bytes a booking plus 4 for the id index, and
+ * creates {@link Booking} records only as views when one is asked for.
+ * <p>
+ * Columns live in fixed-size chunks allocated from one shared {@link Arena}, so growing the
+ * store never moves memory a reader may be using; rows freed by removals are reused. Reads
+ * are optimistic and retried under the read lock if a write got in between. A booking
+ * whose guest has been merged away shows a guest with that id and no name until it is
+ * moved to the survivor. All memory is released by {@link #close()}.
+ */
+public final class OffHeapBookingStore implements BookingStore {
+    private static final int CHUNK_ROWS = 1 << 16;
+    private static final int ID = 0;
+    private static final int ROOM_ID = 1;
+    private static final int GUEST_ID = 2;
+    private static final int CHECK_IN = 3;
+    private static final int CHECK_OUT = 4;
+    private static final long RATE_OFFSET = 5L * CHUNK_ROWS * Integer.BYTES;
+    private static final long CHUNK_BYTES = RATE_OFFSET + (long) CHUNK_ROWS * Long.BYTES;
+    private static final int NO_ROW = -1;
+
+    private final RoomRepository roomRepository;
+    private final GuestRepository guestRepository;
+    private final Arena arena = Arena.ofShared();
+    private final List<MemorySegment> columnChunks = new CopyOnWriteArrayList<>();
+    private final List<MemorySegment> rowByIdChunks = new CopyOnWriteArrayList<>();
+    private final StampedLock lock = new StampedLock();
+    private int[] freeRows = new int[16];
+    private int freeRowCount;
+    private int rowCount;
+    private volatile int size;
+    private volatile int highestId;
+
+    public OffHeapBookingStore(RoomRepository roomRepository, GuestRepository guestRepository) {
+        this.roomRepository = roomRepository;
+        this.guestRepository = guestRepository;
+    }
+
+    @Override
+    public void put(Booking booking) {
+        long stamp = this.lock.writeLock();
+        try {
+            this.write(booking);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Booking> bookings) {
+        long stamp = this.lock.writeLock();
+        try {
+            bookings.forEach(this::write);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(Booking booking) {
+        long stamp = this.lock.writeLock();
+        try {
+            int row = this.rowForId(booking.id());
+
+            if (row == NO_ROW) {
+                return;
+            }
+
+            set(this.chunk(row), ID, row % CHUNK_ROWS, 0);
+            this.setRowForId(booking.id(), NO_ROW);
+
+            if (this.freeRowCount == this.freeRows.length) {
+                this.freeRows = Arrays.copyOf(this.freeRows, this.freeRowCount * 2);
+            }
+            this.freeRows[this.freeRowCount++] = row;
+            this.size--;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Booking find(int id) {
+        Row row = this.readRowConsistently(id);
+        return Objects.isNull(row) ? null : this.view(row);
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return Objects.nonNull(this.readRowConsistently(id));
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Stream<Booking> streamAfter(int afterId) {
+        return IntStream.rangeClosed(afterId + 1, this.highestId)
+                .mapToObj(this::find)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Scans the check-out column, creating a month only when a row checks out in another
+     * month than the row before it.
+     */
+    @Override
+    public SortedSet<YearMonth> checkOutMonthsBefore(YearMonth month) {
+        long monthStart = month.atDay(1).toEpochDay();
+        SortedSet<YearMonth> months = new TreeSet<>();
+        long lastMonthStart = Long.MAX_VALUE;
+        long lastMonthEnd = Long.MIN_VALUE;
+
+        long stamp = this.lock.readLock();
+        try {
+            for (int row = 0; row < this.rowCount; row++) {
+                MemorySegment chunk = this.chunk(row);
+                int offset = row % CHUNK_ROWS;
+                int checkOutDay = get(chunk, CHECK_OUT, offset);
+
+                if (get(chunk, ID, offset) == 0 || checkOutDay >= monthStart
+                        || (checkOutDay >= lastMonthStart && checkOutDay <= lastMonthEnd)) {
+                    continue;
+                }
+
+                YearMonth checkOutMonth = YearMonth.from(LocalDate.ofEpochDay(checkOutDay));
+                months.add(checkOutMonth);
+                lastMonthStart = checkOutMonth.atDay(1).toEpochDay();
+                lastMonthEnd = checkOutMonth.atEndOfMonth().toEpochDay();
+            }
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+
+        return months;
+    }
+
+    @Override
+    public List<Booking> bookingsCheckingOutIn(YearMonth month) {
+        long firstDay = month.atDay(1).toEpochDay();
+        long lastDay = month.atEndOfMonth().toEpochDay();
+        List<Row> rows = new ArrayList<>();
+
+        long stamp = this.lock.readLock();
+        try {
+            for (int row = 0; row < this.rowCount; row++) {
+                MemorySegment chunk = this.chunk(row);
+                int offset = row % CHUNK_ROWS;
+                int checkOutDay = get(chunk, CHECK_OUT, offset);
+
+                if (get(chunk, ID, offset) != 0 && checkOutDay >= firstDay && checkOutDay <= lastDay) {
+                    rows.add(readRow(chunk, offset));
+                }
+            }
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+
+        return rows.stream()
+                .sorted(Comparator.comparingInt(Row::id))
+                .map(this::view)
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+
+    private void write(Booking booking) {
+        int row = this.rowForId(booking.id());
+
+        if (row == NO_ROW) {
+            row = this.allocateRow();
+            this.setRowForId(booking.id(), row);
+            this.size++;
+            this.highestId = Math.max(this.highestId, booking.id());
+        }
+
+        MemorySegment chunk = this.chunk(row);
+        int offset = row % CHUNK_ROWS;
+        set(chunk, ROOM_ID, offset, booking.room().id());
+        set(chunk, GUEST_ID, offset, booking.guest().id());
+        set(chunk, CHECK_IN, offset, (int) booking.checkInDate().toEpochDay());
+        set(chunk, CHECK_OUT, offset, (int) booking.checkOutDate().toEpochDay());
+        chunk.set(ValueLayout.JAVA_LONG, RATE_OFFSET + (long) offset * Long.BYTES, booking.nightlyRateCents());
+        set(chunk, ID, offset, booking.id());
+    }
+
+    private int allocateRow() {
+        if (this.freeRowCount > 0) {
+            return this.freeRows[--this.freeRowCount];
+        }
+
+        int row = this.rowCount++;
+        if (row % CHUNK_ROWS == 0) {
+            this.columnChunks.add(this.arena.allocate(CHUNK_BYTES, Long.BYTES));
+        }
+
+        return row;
+    }
+
+    /**
+     * Reads the row without locking and reads it again under the read lock if a write
+     * overlapped. The optimistic read may see a half-written row but never leaves the
+     * chunks, and its result is only used once validated.
+     */
+    private Row readRowConsistently(int id) {
+        long stamp = this.lock.tryOptimisticRead();
+        Row row = this.readRow(id);
+
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                row = this.readRow(id);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        return row;
+    }
+
+    private Row readRow(int id) {
+        int row = this.rowForId(id);
+
+        if (row == NO_ROW || row / CHUNK_ROWS >= this.columnChunks.size()) {
+            return null;
+        }
+
+        return readRow(this.chunk(row), row % CHUNK_ROWS);
+    }
+
+    private Booking view(Row row) {
+        Guest guest = this.guestRepository.existsById(row.guestId())
+                ? this.guestRepository.findGuestById(row.guestId())
+                : new Guest(row.guestId(), "", "");
+
+        return new Booking(
+                row.id(),
+                this.roomRepository.findRoomById(row.roomId()),
+                guest,
+                LocalDate.ofEpochDay(row.checkInDay()),
+                LocalDate.ofEpochDay(row.checkOutDay()),
+                row.nightlyRateCents()
+        );
+    }
+
+    private MemorySegment chunk(int row) {
+        return this.columnChunks.get(row / CHUNK_ROWS);
+    }
+
+    private int rowForId(int id) {
+        int chunkIndex = id / CHUNK_ROWS;
+
+        if (id <= 0 || chunkIndex >= this.rowByIdChunks.size()) {
+            return NO_ROW;
+        }
+
+        return this.rowByIdChunks.get(chunkIndex).getAtIndex(ValueLayout.JAVA_INT, id % CHUNK_ROWS);
+    }
+
+    private void setRowForId(int id, int row) {
+        while (this.rowByIdChunks.size() <= id / CHUNK_ROWS) {
+            MemorySegment chunk = this.arena.allocate((long) CHUNK_ROWS * Integer.BYTES, Integer.BYTES);
+            chunk.fill((byte) 0xFF);
+            this.rowByIdChunks.add(chunk);
+        }
+
+        this.rowByIdChunks.get(id / CHUNK_ROWS).setAtIndex(ValueLayout.JAVA_INT, id % CHUNK_ROWS, row);
+    }
+
+    private static Row readRow(MemorySegment chunk, int offset) {
+        return new Row(
+                get(chunk, ID, offset),
+                get(chunk, ROOM_ID, offset),
+                get(chunk, GUEST_ID, offset),
+                get(chunk, CHECK_IN, offset),
+                get(chunk, CHECK_OUT, offset),
+                chunk.get(ValueLayout.JAVA_LONG, RATE_OFFSET + (long) offset * Long.BYTES)
+        );
+    }
+
+    private static int get(MemorySegment chunk, int column, int offset) {
+        return chunk.getAtIndex(ValueLayout.JAVA_INT, (long) column * CHUNK_ROWS + offset);
+    }
+
+    private static void set(MemorySegment chunk, int column, int offset, int value) {
+        chunk.setAtIndex(ValueLayout.JAVA_INT, (long) column * CHUNK_ROWS + offset, value);
+    }
+
+    private record Row(int id, int roomId, int guestId, int checkInDay, int checkOutDay, long nightlyRateCents) {
+    }
+}
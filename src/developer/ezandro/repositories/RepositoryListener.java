@@ -0,0 +1,45 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+
+/**
+ * Receives every change made to the repositories before it becomes visible to readers.
+ * A listener that throws aborts the change.
+ */
+public interface RepositoryListener {
+    default void onRoomAdded(Room room) {
+    }
+
+    default void onGuestAdded(Guest guest) {
+    }
+
+    default void onGuestRemoved(Guest guest) {
+    }
+
+    default void onBookingAdded(Booking booking) {
+    }
+
+    /**
+     * Called once for a group of bookings that are added together or not at all.
+     */
+    default void onBookingsAdded(List<Booking> bookings) {
+        bookings.forEach(this::onBookingAdded);
+    }
+
+    default void onBookingUpdated(Booking previous, Booking updated) {
+    }
+
+    default void onBookingRemoved(Booking booking) {
+    }
+
+    /**
+     * Called once for a group of past bookings moved to the archive; to the repository they
+     * are as good as removed.
+     */
+    default void onBookingsArchived(List<Booking> bookings) {
+        bookings.forEach(this::onBookingRemoved);
+    }
+}
@@ -0,0 +1,176 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+
+/**
+ * Stays of a single room, ordered by check-in date and then id, kept as primitive arrays
+ * that writers replace under the room's lock and readers use without it.
+ */
+final class RoomBookings {
+    private static final Stays NO_STAYS = new Stays(new long[0], new int[0]);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Stays stays = NO_STAYS;
+
+    void lock() {
+        this.lock.lock();
+    }
+
+    void unlock() {
+        this.lock.unlock();
+    }
+
+    void add(Booking booking) {
+        Stays current = this.stays;
+        long key = key(booking);
+        int index = Arrays.binarySearch(current.keys(), key);
+
+        if (index >= 0) {
+            int[] checkOutDays = current.checkOutDays().clone();
+            checkOutDays[index] = checkOutDay(booking);
+            this.stays = new Stays(current.keys(), checkOutDays);
+            return;
+        }
+
+        int insertion = -index - 1;
+        int size = current.keys().length;
+        long[] keys = new long[size + 1];
+        int[] checkOutDays = new int[size + 1];
+        System.arraycopy(current.keys(), 0, keys, 0, insertion);
+        System.arraycopy(current.checkOutDays(), 0, checkOutDays, 0, insertion);
+        keys[insertion] = key;
+        checkOutDays[insertion] = checkOutDay(booking);
+        System.arraycopy(current.keys(), insertion, keys, insertion + 1, size - insertion);
+        System.arraycopy(current.checkOutDays(), insertion, checkOutDays, insertion + 1, size - insertion);
+        this.stays = new Stays(keys, checkOutDays);
+    }
+
+    /**
+     * Merges many bookings in one pass instead of copying the arrays once per booking; a
+     * booking already held is replaced.
+     */
+    void addAll(Collection<Booking> bookings) {
+        Stays current = this.stays;
+        List<Booking> added = bookings.stream().sorted(Comparator.comparingLong(RoomBookings::key)).toList();
+        long[] keys = new long[current.keys().length + added.size()];
+        int[] checkOutDays = new int[keys.length];
+        int held = 0;
+        int next = 0;
+        int size = 0;
+
+        while (held < current.keys().length || next < added.size()) {
+            long addedKey = next < added.size() ? key(added.get(next)) : Long.MAX_VALUE;
+
+            if (held < current.keys().length && current.keys()[held] < addedKey) {
+                keys[size] = current.keys()[held];
+                checkOutDays[size++] = current.checkOutDays()[held++];
+                continue;
+            }
+
+            if (held < current.keys().length && current.keys()[held] == addedKey) {
+                held++;
+            }
+
+            keys[size] = addedKey;
+            checkOutDays[size++] = checkOutDay(added.get(next++));
+        }
+
+        this.stays = new Stays(Arrays.copyOf(keys, size), Arrays.copyOf(checkOutDays, size));
+    }
+
+    void remove(Booking booking) {
+        Stays current = this.stays;
+        int index = Arrays.binarySearch(current.keys(), key(booking));
+
+        if (index < 0 || current.checkOutDays()[index] != checkOutDay(booking)) {
+            return;
+        }
+
+        int size = current.keys().length;
+        long[] keys = new long[size - 1];
+        int[] checkOutDays = new int[size - 1];
+        System.arraycopy(current.keys(), 0, keys, 0, index);
+        System.arraycopy(current.checkOutDays(), 0, checkOutDays, 0, index);
+        System.arraycopy(current.keys(), index + 1, keys, index, size - index - 1);
+        System.arraycopy(current.checkOutDays(), index + 1, checkOutDays, index, size - index - 1);
+        this.stays = new Stays(keys, checkOutDays);
+    }
+
+    /**
+     * Returns the ids of the bookings with at least one night in {@code [from, to)}, in
+     * check-in order; null bounds are open.
+     */
+    int[] bookingIdsBetween(LocalDate from, LocalDate to) {
+        Stays current = this.stays;
+        int end = Objects.isNull(to) ? current.keys().length : insertionPoint(current.keys(), key(to, 0));
+        int start = 0;
+
+        if (Objects.nonNull(from)) {
+            start = insertionPoint(current.keys(), key(from, 0));
+            boolean previousOverlaps = start > 0 && current.checkOutDays()[start - 1] > from.toEpochDay();
+            start = previousOverlaps ? start - 1 : start;
+        }
+
+        int[] ids = new int[Math.max(0, end - start)];
+        for (int index = start; index < end; index++) {
+            ids[index - start] = (int) current.keys()[index];
+        }
+
+        return ids;
+    }
+
+    /**
+     * Only the last booking starting before {@code checkOut} can overlap the requested
+     * period, so a single floor lookup is enough.
+     */
+    boolean overlaps(LocalDate checkIn, LocalDate checkOut) {
+        Stays current = this.stays;
+        int previous = insertionPoint(current.keys(), key(checkOut, 0)) - 1;
+        return previous >= 0 && checkIn.toEpochDay() < current.checkOutDays()[previous];
+    }
+
+    /**
+     * Checks whether moving {@code booking} to {@code [checkIn, checkOut)} would overlap
+     * another booking. Only the nights the new stay adds need checking: the nights it
+     * keeps are the booking's own.
+     */
+    boolean overlapsOthers(Booking booking, LocalDate checkIn, LocalDate checkOut) {
+        LocalDate currentCheckIn = booking.checkInDate();
+        LocalDate currentCheckOut = booking.checkOutDate();
+
+        if (!checkIn.isBefore(currentCheckOut) || !checkOut.isAfter(currentCheckIn)) {
+            return this.overlaps(checkIn, checkOut);
+        }
+
+        return (checkIn.isBefore(currentCheckIn) && this.overlaps(checkIn, currentCheckIn))
+                || (checkOut.isAfter(currentCheckOut) && this.overlaps(currentCheckOut, checkOut));
+    }
+
+    private static int insertionPoint(long[] keys, long key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static long key(Booking booking) {
+        return key(booking.checkInDate(), booking.id());
+    }
+
+    /**
+     * Orders by check-in date, then id. Ids are positive, so key(date, 0) sorts before
+     * every booking checking in on that date.
+     */
+    private static long key(LocalDate checkIn, int id) {
+        return checkIn.toEpochDay() << 32 | id;
+    }
+
+    private static int checkOutDay(Booking booking) {
+        return (int) booking.checkOutDate().toEpochDay();
+    }
+
+    /**
+     * Sort keys and the matching check-out epoch days; never modified once published.
+     */
+    private record Stays(long[] keys, int[] checkOutDays) {
+    }
+}
@@ -0,0 +1,94 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.RoomType;
+
+/**
+ * Room nights sold and the revenue they bring at the rates they were booked at, per night
+ * and room type.
+ * Register it after the write-ahead log, so a change the log refuses is never counted.
+ */
+public final class RoomNightStatistics implements RepositoryListener {
+    private static final int ROOM_TYPES = RoomType.values().length;
+
+    /**
+     * Per night: room nights sold by room type ordinal, then revenue in cents by ordinal.
+     */
+    private final Map<Long, AtomicLongArray> totalsByNight = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the totals with those of the given bookings, aggregated in parallel on the
+     * common fork-join pool. Changes must be paused while it runs.
+     */
+    public void rebuild(Stream<Booking> bookings) {
+        Map<Long, long[]> totals = bookings.parallel().collect(
+                HashMap::new,
+                RoomNightStatistics::addNights,
+                (left, right) -> right.forEach((night, nightTotals) -> left.merge(night, nightTotals, RoomNightStatistics::sum))
+        );
+
+        this.totalsByNight.clear();
+        totals.forEach((night, nightTotals) -> this.totalsByNight.put(night, new AtomicLongArray(nightTotals)));
+    }
+
+    public long soldRoomNights(LocalDate night, RoomType roomType) {
+        AtomicLongArray nightTotals = this.totalsByNight.get(night.toEpochDay());
+        return Objects.isNull(nightTotals) ? 0 : nightTotals.get(roomType.ordinal());
+    }
+
+    public long revenueCents(LocalDate night, RoomType roomType) {
+        AtomicLongArray nightTotals = this.totalsByNight.get(night.toEpochDay());
+        return Objects.isNull(nightTotals) ? 0 : nightTotals.get(ROOM_TYPES + roomType.ordinal());
+    }
+
+    @Override
+    public void onBookingAdded(Booking booking) {
+        this.count(booking, 1);
+    }
+
+    @Override
+    public void onBookingUpdated(Booking previous, Booking updated) {
+        this.count(previous, -1);
+        this.count(updated, 1);
+    }
+
+    @Override
+    public void onBookingRemoved(Booking booking) {
+        this.count(booking, -1);
+    }
+
+    /**
+     * Archived stays were still sold: they only move to disk, so they stay counted.
+     */
+    @Override
+    public void onBookingsArchived(List<Booking> bookings) {
+    }
+
+    private void count(Booking booking, int sign) {
+        RoomType roomType = booking.room().roomType();
+
+        for (long night = booking.checkInDate().toEpochDay(); night < booking.checkOutDate().toEpochDay(); night++) {
+            AtomicLongArray nightTotals = this.totalsByNight.computeIfAbsent(night, _ -> new AtomicLongArray(2 * ROOM_TYPES));
+            nightTotals.addAndGet(roomType.ordinal(), sign);
+            nightTotals.addAndGet(ROOM_TYPES + roomType.ordinal(), sign * booking.nightlyRateCents());
+        }
+    }
+
+    private static void addNights(Map<Long, long[]> totals, Booking booking) {
+        RoomType roomType = booking.room().roomType();
+
+        for (long night = booking.checkInDate().toEpochDay(); night < booking.checkOutDate().toEpochDay(); night++) {
+            long[] nightTotals = totals.computeIfAbsent(night, _ -> new long[2 * ROOM_TYPES]);
+            nightTotals[roomType.ordinal()]++;
+            nightTotals[ROOM_TYPES + roomType.ordinal()] += booking.nightlyRateCents();
+        }
+    }
+
+    private static long[] sum(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+}
@@ -2,41 +2,95 @@ package developer.ezandro.repositories;
 
 import module java.base;
 import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
 import developer.ezandro.exceptions.RoomAlreadyExistsException;
 import developer.ezandro.exceptions.RoomNotFoundException;
 
 public class RoomRepository {
-    private final List<Room> rooms = new ArrayList<>();
+    private final NavigableMap<Integer, Room> rooms = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Room> roomsById = new ConcurrentHashMap<>();
+    private final Map<String, Room> roomsByNumber = new ConcurrentHashMap<>();
+    private final Map<RoomType, NavigableMap<Integer, Room>> roomsByType = new EnumMap<>(RoomType.class);
+    private final List<RepositoryListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+
+    public RoomRepository() {
+        for (RoomType roomType : RoomType.values()) {
+            this.roomsByType.put(roomType, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    public void addListener(RepositoryListener listener) {
+        this.listeners.add(listener);
+    }
 
     public void addRoom(Room room) {
-        Optional<Room> existingRoom = this.findRoomByNumber(room.number());
+        this.changeLock.readLock().lock();
+        try {
+            Room existingRoom = this.roomsByNumber.putIfAbsent(room.number(), room);
 
-        if (existingRoom.isPresent()) {
-            throw new RoomAlreadyExistsException(
-                    room.number(),
-                    String.valueOf(existingRoom.get().id())
-            );
+            if (Objects.nonNull(existingRoom)) {
+                throw new RoomAlreadyExistsException(
+                        room.number(),
+                        String.valueOf(existingRoom.id())
+                );
+            }
+
+            try {
+                this.listeners.forEach(listener -> listener.onRoomAdded(room));
+            } catch (RuntimeException e) {
+                this.roomsByNumber.remove(room.number(), room);
+                throw e;
+            }
+
+            this.rooms.put(room.id(), room);
+            this.roomsById.put(room.id(), room);
+            this.roomsByType.get(room.roomType()).put(room.id(), room);
+        } finally {
+            this.changeLock.readLock().unlock();
         }
+    }
 
-        this.rooms.add(room);
+    public void runWithChangesPaused(Runnable action) {
+        this.changeLock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            this.changeLock.writeLock().unlock();
+        }
     }
 
     public Optional<Room> findRoomByNumber(String number) {
-        return this.rooms
-                .stream()
-                .filter(roomNumber -> roomNumber.number().equals(number))
-                .findFirst();
+        return Optional.ofNullable(this.roomsByNumber.get(number));
     }
 
     public Room findRoomById(int id) {
-        return this.rooms
-                .stream()
-                .filter(room -> room.id() == id)
-                .findFirst()
-                .orElseThrow(() -> new RoomNotFoundException(id));
+        Room room = this.roomsById.get(id);
+
+        if (Objects.isNull(room)) {
+            throw new RoomNotFoundException(id);
+        }
+
+        return room;
+    }
+
+    public boolean existsById(int id) {
+        return this.roomsById.containsKey(id);
+    }
+
+    public Collection<Room> findRoomsByType(RoomType roomType) {
+        return Collections.unmodifiableCollection(this.roomsByType.get(roomType).values());
+    }
+
+    public int countRooms() {
+        return this.rooms.size();
+    }
+
+    public Stream<Room> streamRooms(int afterId) {
+        return this.rooms.tailMap(afterId, false).values().stream();
     }
 
     public List<Room> getAllRooms() {
-        return Collections.unmodifiableList(this.rooms);
+        return List.copyOf(this.rooms.values());
     }
-}
\ No newline at end of file
+}
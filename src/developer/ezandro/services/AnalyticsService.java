@@ -0,0 +1,96 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.persistence.BookingArchive;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.RoomNightStatistics;
+import developer.ezandro.repositories.RoomRepository;
+
+/**
+ * Occupancy, ADR and RevPAR reports, read from room night totals that cover both current
+ * and archived bookings and that follow every booking change as it happens.
+ */
+public record AnalyticsService(
+        RoomRepository roomRepository,
+        BookingRepository bookingRepository,
+        BookingArchive bookingArchive,
+        RoomNightStatistics roomNightStatistics) {
+    private static final int MAX_REPORT_DAYS = 3_660;
+
+    /**
+     * Aggregates the current and archived bookings from scratch and subscribes the totals to
+     * later changes. A booking caught between the archive and the repository while a month
+     * is being archived is counted from the repository only.
+     */
+    public void startTracking() {
+        this.bookingRepository.runWithChangesPaused(() -> {
+            Stream<Booking> archivedBookings = this.bookingArchive.months().stream()
+                    .flatMap(month -> this.bookingArchive.readBookings(month).stream())
+                    .filter(booking -> !this.bookingRepository.existsById(booking.id()));
+
+            this.roomNightStatistics.rebuild(Stream.concat(
+                    this.bookingRepository.streamBookings(0, BookingFilter.ALL),
+                    archivedBookings
+            ));
+            this.bookingRepository.addListener(this.roomNightStatistics);
+        });
+    }
+
+    /**
+     * Splits the nights in {@code [from, to)} into periods and reports each of them.
+     */
+    public List<PeriodReport> report(LocalDate from, LocalDate to, ReportPeriod period) {
+        if (!to.isAfter(from)) {
+            throw new InvalidRequestException("'to' must be after 'from'.");
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) > MAX_REPORT_DAYS) {
+            throw new InvalidRequestException("A report can cover at most " + MAX_REPORT_DAYS + " days.");
+        }
+
+        Map<RoomType, Integer> roomCounts = new EnumMap<>(RoomType.class);
+        for (RoomType roomType : RoomType.values()) {
+            roomCounts.put(roomType, this.roomRepository.findRoomsByType(roomType).size());
+        }
+
+        List<PeriodReport> reports = new ArrayList<>();
+
+        for (LocalDate start = from; start.isBefore(to); ) {
+            LocalDate end = period.nextStart(start);
+            if (end.isAfter(to)) {
+                end = to;
+            }
+
+            reports.add(this.reportPeriod(start, end, roomCounts));
+            start = end;
+        }
+
+        return reports;
+    }
+
+    private PeriodReport reportPeriod(LocalDate start, LocalDate end, Map<RoomType, Integer> roomCounts) {
+        long nights = ChronoUnit.DAYS.between(start, end);
+        Map<RoomType, PeriodReport.Metrics> metricsByRoomType = new EnumMap<>(RoomType.class);
+        PeriodReport.Metrics total = new PeriodReport.Metrics(0, 0, 0);
+
+        for (RoomType roomType : RoomType.values()) {
+            long soldRoomNights = 0;
+            long revenueCents = 0;
+
+            for (LocalDate night = start; night.isBefore(end); night = night.plusDays(1)) {
+                soldRoomNights += this.roomNightStatistics.soldRoomNights(night, roomType);
+                revenueCents += this.roomNightStatistics.revenueCents(night, roomType);
+            }
+
+            PeriodReport.Metrics metrics = new PeriodReport.Metrics(roomCounts.get(roomType) * nights, soldRoomNights, revenueCents);
+            metricsByRoomType.put(roomType, metrics);
+            total = total.plus(metrics);
+        }
+
+        return new PeriodReport(start, end, metricsByRoomType, total);
+    }
+}
@@ -0,0 +1,79 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.DailyCounts;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.exceptions.InvalidBookingDateRangeException;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.RoomRepository;
+
+public record AvailabilityService(
+        RoomRepository roomRepository,
+        BookingRepository bookingRepository) {
+    private static final int MAX_COUNTED_DAYS = 366;
+
+    public List<Room> findAvailableRooms(RoomType roomType, int minCapacity, LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new InvalidBookingDateRangeException();
+        }
+
+        if (ChronoUnit.DAYS.between(checkIn, checkOut) > Booking.MAX_NIGHTS) {
+            throw new InvalidBookingDateRangeException(Booking.MAX_NIGHTS);
+        }
+
+        IntPredicate occupiedRoomIds = this.bookingRepository.findOccupiedRoomIds(checkIn, checkOut);
+
+        return this.roomRepository.findRoomsByType(roomType).stream()
+                .filter(room -> room.capacity() >= minCapacity)
+                .filter(room -> !occupiedRoomIds.test(room.id()))
+                .toList();
+    }
+
+    public List<Room> findFreeRooms(LocalDate night) {
+        IntPredicate occupiedRoomIds = this.bookingRepository.findOccupiedRoomIds(night, night.plusDays(1));
+
+        return this.roomRepository.getAllRooms().stream()
+                .filter(room -> !occupiedRoomIds.test(room.id()))
+                .toList();
+    }
+
+    public double getOccupancyRate(LocalDate night) {
+        int totalRooms = this.roomRepository.countRooms();
+
+        if (totalRooms == 0) {
+            return 0.0;
+        }
+
+        return (double) this.bookingRepository.countOccupiedRooms(night) / totalRooms;
+    }
+
+    /**
+     * Returns rooms sold, arrivals and departures for each day in {@code [from, to)}.
+     */
+    public List<DailyCounts> countDays(LocalDate from, LocalDate to) {
+        if (!to.isAfter(from)) {
+            throw new InvalidRequestException("'to' must be after 'from'.");
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) > MAX_COUNTED_DAYS) {
+            throw new InvalidRequestException("At most " + MAX_COUNTED_DAYS + " days can be counted at once.");
+        }
+
+        return from.datesUntil(to)
+                .map(this.bookingRepository::countDay)
+                .toList();
+    }
+
+    public boolean isRoomAvailable(int roomId, LocalDate checkIn, LocalDate checkOut) {
+        Room room = this.roomRepository.findRoomById(roomId);
+
+        if (!checkOut.isAfter(checkIn)) {
+            throw new InvalidBookingDateRangeException();
+        }
+
+        return !this.bookingRepository.hasConflictingBooking(room.id(), checkIn, checkOut);
+    }
+}
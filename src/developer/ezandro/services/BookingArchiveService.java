@@ -0,0 +1,21 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.persistence.BookingArchive;
+
+/**
+ * Read access to past stays after they have left the booking repository. Each call reads
+ * the month's archive file from disk, so this is meant for reporting, not for hot paths.
+ */
+public record BookingArchiveService(BookingArchive bookingArchive) {
+    /**
+     * Streams the matching bookings archived under the given check-out month with an ID
+     * above {@code afterId}, in ID order.
+     */
+    public Stream<Booking> streamArchivedBookings(YearMonth checkOutMonth, BookingFilter filter, int afterId) {
+        return this.bookingArchive.readBookings(checkOutMonth).stream()
+                .filter(booking -> booking.id() > afterId && filter.test(booking));
+    }
+}
@@ -2,10 +2,16 @@ package developer.ezandro.services;
 
 import module java.base;
 import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.BookingRequest;
 import developer.ezandro.entities.Guest;
 import developer.ezandro.entities.Room;
+import developer.ezandro.exceptions.ArchivedPeriodException;
 import developer.ezandro.exceptions.InvalidBookingDateRangeException;
+import developer.ezandro.exceptions.InvalidRequestException;
 import developer.ezandro.exceptions.RoomAlreadyBookedException;
+import developer.ezandro.metrics.Outcome;
+import developer.ezandro.metrics.ServiceMetrics;
 import developer.ezandro.repositories.BookingRepository;
 import developer.ezandro.repositories.GuestRepository;
 import developer.ezandro.repositories.RoomRepository;
@@ -13,36 +19,175 @@ import developer.ezandro.repositories.RoomRepository;
 public record BookingService(
         BookingRepository bookingRepository,
         RoomRepository roomRepository,
-        GuestRepository guestRepository) {
-    public void createBooking(int roomId, int guestId, LocalDate checkIn, LocalDate checkOut) {
-        Room room = this.roomRepository.findRoomById(roomId);
-        Guest guest = this.guestRepository.findGuestById(guestId);
-
-        List<Booking> existingBookingsForRoom = this.bookingRepository.getAllBookings().stream()
-                .filter(booking -> booking.room().id() == roomId)
-                .toList();
-
-        boolean hasConflict = existingBookingsForRoom.stream()
-                .anyMatch(existingBooking -> checkIn.isBefore(existingBooking.checkOutDate())
-                                && checkOut.isAfter(existingBooking.checkInDate())
+        GuestRepository guestRepository,
+        ServiceMetrics metrics) {
+    private static final int MAX_BATCH_BOOKINGS = 1_000;
+
+    public Booking createBooking(int roomId, int guestId, LocalDate checkIn, LocalDate checkOut) {
+        long start = System.nanoTime();
+
+        try {
+            Room room = this.roomRepository.findRoomById(roomId);
+            Guest guest = this.guestRepository.findGuestById(guestId);
+            validateStay(checkIn, checkOut);
+            validateNotArchived(checkIn);
+
+            Booking booking = new Booking(room, guest, checkIn, checkOut);
+
+            long checkStart = System.nanoTime();
+            boolean added = this.bookingRepository.addBookingIfAvailable(booking);
+            this.metrics.conflictCheck().record(checkStart, added ? Outcome.COMPLETED : Outcome.CONFLICT);
+
+            if (!added) {
+                throw new RoomAlreadyBookedException(room.number(), roomId);
+            }
+
+            this.metrics.createBooking().completed(start);
+            return booking;
+        } catch (RuntimeException e) {
+            this.metrics.createBooking().failed(start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Books a group of rooms atomically: either every request is booked or, on the first
+     * invalid request or conflict, none is. A group holds at most 1,000 bookings.
+     */
+    public List<Booking> createBookings(List<BookingRequest> requests) {
+        long start = System.nanoTime();
+
+        try {
+            if (requests.size() > MAX_BATCH_BOOKINGS) {
+                throw new InvalidRequestException("A batch can hold at most " + MAX_BATCH_BOOKINGS + " bookings.");
+            }
+
+            List<Booking> bookings = new ArrayList<>(requests.size());
+
+            for (BookingRequest request : requests) {
+                Room room = this.roomRepository.findRoomById(request.roomId());
+                Guest guest = this.guestRepository.findGuestById(request.guestId());
+                validateStay(request.checkInDate(), request.checkOutDate());
+                validateNotArchived(request.checkInDate());
+
+                bookings.add(new Booking(room, guest, request.checkInDate(), request.checkOutDate()));
+            }
+
+            long checkStart = System.nanoTime();
+            Optional<Booking> conflict = this.bookingRepository.addBookingsIfAvailable(bookings);
+            this.metrics.conflictCheck().record(checkStart, conflict.isEmpty() ? Outcome.COMPLETED : Outcome.CONFLICT);
+
+            conflict.ifPresent(conflictingBooking -> {
+                throw new RoomAlreadyBookedException(
+                        conflictingBooking.room().number(),
+                        conflictingBooking.room().id()
                 );
+            });
 
-        if (hasConflict) {
-            throw new RoomAlreadyBookedException(room.number(), roomId);
+            this.metrics.createBookings().completed(start);
+            return bookings;
+        } catch (RuntimeException e) {
+            this.metrics.createBookings().failed(start, e);
+            throw e;
         }
+    }
 
-        if (!checkOut.isAfter(checkIn)) {
-            throw new InvalidBookingDateRangeException();
+    /**
+     * Moves a booking to new dates in the same room. Only the nights the booking did not
+     * already have are checked for conflicts. A stay that began before the current month
+     * can still be shortened or extended as long as its check-in date is kept.
+     */
+    public Booking rescheduleBooking(int id, LocalDate checkIn, LocalDate checkOut) {
+        long start = System.nanoTime();
+
+        try {
+            validateStay(checkIn, checkOut);
+            if (!checkIn.equals(this.bookingRepository.findBookingById(id).checkInDate())) {
+                validateNotArchived(checkIn);
+            }
+
+            long checkStart = System.nanoTime();
+            Optional<Booking> rescheduled = this.bookingRepository.rescheduleBookingIfAvailable(id, checkIn, checkOut);
+            this.metrics.conflictCheck().record(checkStart, rescheduled.isPresent() ? Outcome.COMPLETED : Outcome.CONFLICT);
+
+            Booking booking = rescheduled.orElseThrow(() -> {
+                Room room = this.bookingRepository.findBookingById(id).room();
+                return new RoomAlreadyBookedException(room.number(), room.id());
+            });
+
+            this.metrics.rescheduleBooking().completed(start);
+            return booking;
+        } catch (RuntimeException e) {
+            this.metrics.rescheduleBooking().failed(start, e);
+            throw e;
         }
+    }
+
+    public Booking cancelBooking(int id) {
+        long start = System.nanoTime();
 
-        this.bookingRepository.addBooking(new Booking(room, guest, checkIn, checkOut));
+        try {
+            Booking booking = this.bookingRepository.removeBooking(id);
+            this.metrics.cancelBooking().completed(start);
+            return booking;
+        } catch (RuntimeException e) {
+            this.metrics.cancelBooking().failed(start, e);
+            throw e;
+        }
     }
 
     public Booking findBookingById(int id) {
-        return this.bookingRepository.findBookingById(id);
+        long start = System.nanoTime();
+
+        try {
+            Booking booking = this.bookingRepository.findBookingById(id);
+            this.metrics.findBookingById().completed(start);
+            return booking;
+        } catch (RuntimeException e) {
+            this.metrics.findBookingById().failed(start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the matching bookings with an ID above {@code afterId}, in ID order, without
+     * copying them; pass 0 to start from the first booking.
+     */
+    public Stream<Booking> streamBookings(BookingFilter filter, int afterId) {
+        return this.bookingRepository.streamBookings(afterId, filter);
+    }
+
+    public Page<Booking> listBookings(BookingFilter filter, int afterId, int pageSize) {
+        return Page.of(this.streamBookings(filter, afterId), pageSize, Booking::id);
+    }
+
+    public int countBookings() {
+        return this.bookingRepository.countBookings();
     }
 
     public List<Booking> getAllBookings() {
         return this.bookingRepository.getAllBookings();
     }
+
+    private static void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new InvalidBookingDateRangeException();
+        }
+
+        if (ChronoUnit.DAYS.between(checkIn, checkOut) > Booking.MAX_NIGHTS) {
+            throw new InvalidBookingDateRangeException(Booking.MAX_NIGHTS);
+        }
+    }
+
+    /**
+     * Nights before the current month may belong to stays already moved to the archive,
+     * where they are no longer checked for conflicts, so no booking may gain them.
+     */
+    private static void validateNotArchived(LocalDate checkIn) {
+        YearMonth currentMonth = YearMonth.now();
+
+        if (checkIn.isBefore(currentMonth.atDay(1))) {
+            throw new ArchivedPeriodException(currentMonth);
+        }
+    }
 }
\ No newline at end of file
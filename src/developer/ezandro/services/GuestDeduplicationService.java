@@ -0,0 +1,58 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+
+/**
+ * Merges guests registered more than once under the same email, moving their bookings over.
+ */
+public record GuestDeduplicationService(GuestRepository guestRepository, BookingRepository bookingRepository) {
+    public record Result(int mergedGuests, int movedBookings) {
+    }
+
+    public Result mergeDuplicateGuests() {
+        Map<Integer, Guest> survivorsByDuplicateId = this.findDuplicates();
+
+        if (survivorsByDuplicateId.isEmpty()) {
+            return new Result(0, 0);
+        }
+
+        int movedBookings = this.moveBookings(survivorsByDuplicateId);
+        survivorsByDuplicateId.keySet().forEach(this.guestRepository::removeGuest);
+        movedBookings += this.moveBookings(survivorsByDuplicateId);
+
+        return new Result(survivorsByDuplicateId.size(), movedBookings);
+    }
+
+    private Map<Integer, Guest> findDuplicates() {
+        Map<Integer, Guest> survivorsByDuplicateId = new HashMap<>();
+
+        this.guestRepository.streamGuests(0).forEach(guest ->
+                this.guestRepository.findGuestByEmail(guest.email())
+                        .filter(survivor -> survivor.id() != guest.id())
+                        .ifPresent(survivor -> survivorsByDuplicateId.put(guest.id(), survivor)));
+
+        return survivorsByDuplicateId;
+    }
+
+    private int moveBookings(Map<Integer, Guest> survivorsByDuplicateId) {
+        List<Booking> bookings = this.bookingRepository.streamBookings(0, BookingFilter.ALL)
+                .filter(booking -> survivorsByDuplicateId.containsKey(booking.guest().id()))
+                .toList();
+
+        bookings.forEach(booking -> this.bookingRepository.updateBooking(booking.id(), current -> new Booking(
+                current.id(),
+                current.room(),
+                survivorsByDuplicateId.getOrDefault(current.guest().id(), current.guest()),
+                current.checkInDate(),
+                current.checkOutDate(),
+                current.nightlyRateCents()
+        )));
+
+        return bookings.size();
+    }
+}
@@ -2,15 +2,59 @@ package developer.ezandro.services;
 
 import module java.base;
 import developer.ezandro.entities.Guest;
+import developer.ezandro.exceptions.InvalidRequestException;
+import developer.ezandro.metrics.ServiceMetrics;
 import developer.ezandro.repositories.GuestRepository;
 
-public record GuestService(GuestRepository guestRepository) {
-    public void addGuest(String name, String email) {
-        this.guestRepository.addGuest(new Guest(name, email));
+public record GuestService(GuestRepository guestRepository, ServiceMetrics metrics) {
+    /**
+     * Returns the guest registered with this email (ignoring case), creating it if there is
+     * none, so a returning guest is never registered twice.
+     */
+    public Guest addGuest(String name, String email) {
+        if (name.length() > Guest.MAX_NAME_LENGTH) {
+            throw new InvalidRequestException("Full name must be at most " + Guest.MAX_NAME_LENGTH + " characters.");
+        }
+
+        if (email.length() > Guest.MAX_EMAIL_LENGTH) {
+            throw new InvalidRequestException("Email must be at most " + Guest.MAX_EMAIL_LENGTH + " characters.");
+        }
+
+        return this.guestRepository.findGuestByEmail(email)
+                .orElseGet(() -> this.guestRepository.findOrAddGuest(new Guest(name, email)));
     }
 
     public Guest findGuestById(int id) {
-        return this.guestRepository.findGuestById(id);
+        long start = System.nanoTime();
+
+        try {
+            Guest guest = this.guestRepository.findGuestById(id);
+            this.metrics.findGuestById().completed(start);
+            return guest;
+        } catch (RuntimeException e) {
+            this.metrics.findGuestById().failed(start, e);
+            throw e;
+        }
+    }
+
+    public List<Guest> searchGuestsByName(String query, int limit) {
+        return this.guestRepository.searchGuestsByName(query, limit);
+    }
+
+    public Optional<Guest> findGuestByEmail(String email) {
+        return this.guestRepository.findGuestByEmail(email);
+    }
+
+    public Stream<Guest> streamGuests(int afterId) {
+        return this.guestRepository.streamGuests(afterId);
+    }
+
+    public Page<Guest> listGuests(int afterId, int pageSize) {
+        return Page.of(this.streamGuests(afterId), pageSize, Guest::id);
+    }
+
+    public int countGuests() {
+        return this.guestRepository.countGuests();
     }
 
     public List<Guest> getAllGuests() {
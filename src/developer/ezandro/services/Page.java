@@ -0,0 +1,28 @@
+package developer.ezandro.services;
+
+import module java.base;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextAfterId} is the ID to pass as
+ * {@code afterId} to fetch the following page, and is empty on the last page.
+ */
+public record Page<T>(List<T> items, OptionalInt nextAfterId) {
+    static <T> Page<T> of(Stream<T> stream, int pageSize, ToIntFunction<T> id) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1.");
+        }
+
+        List<T> items = stream.limit(pageSize + 1L).toList();
+
+        if (items.size() <= pageSize) {
+            return new Page<>(items, OptionalInt.empty());
+        }
+
+        List<T> page = items.subList(0, pageSize);
+        return new Page<>(page, OptionalInt.of(id.applyAsInt(page.getLast())));
+    }
+
+    public boolean hasNext() {
+        return this.nextAfterId.isPresent();
+    }
+}
@@ -0,0 +1,46 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.entities.RoomType;
+
+/**
+ * Occupancy and revenue of the nights in {@code [start, end)}, per room type and for the
+ * whole hotel.
+ */
+public record PeriodReport(
+        LocalDate start,
+        LocalDate end,
+        Map<RoomType, Metrics> metricsByRoomType,
+        Metrics total) {
+    /**
+     * Room nights available (every room that exists now, for every night of the period) and
+     * sold, and the revenue of the sold nights. Money is in cents.
+     */
+    public record Metrics(long availableRoomNights, long soldRoomNights, long revenueCents) {
+        public double occupancy() {
+            return this.availableRoomNights == 0 ? 0.0 : (double) this.soldRoomNights / this.availableRoomNights;
+        }
+
+        /**
+         * Average daily rate: revenue per room night sold.
+         */
+        public long averageDailyRateCents() {
+            return this.soldRoomNights == 0 ? 0 : Math.round((double) this.revenueCents / this.soldRoomNights);
+        }
+
+        /**
+         * Revenue per available room night.
+         */
+        public long revParCents() {
+            return this.availableRoomNights == 0 ? 0 : Math.round((double) this.revenueCents / this.availableRoomNights);
+        }
+
+        Metrics plus(Metrics other) {
+            return new Metrics(
+                    this.availableRoomNights + other.availableRoomNights,
+                    this.soldRoomNights + other.soldRoomNights,
+                    this.revenueCents + other.revenueCents
+            );
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.exceptions.PropertyNotFoundException;
+
+/**
+ * Routes requests to the property they are for; the first property is the default.
+ */
+public final class PropertyRouter {
+    private final SequencedMap<String, PropertyServices> propertiesByCode = new LinkedHashMap<>();
+
+    public PropertyRouter(List<PropertyServices> properties) {
+        if (properties.isEmpty()) {
+            throw new IllegalArgumentException("At least one property is required.");
+        }
+
+        for (PropertyServices property : properties) {
+            if (Objects.nonNull(this.propertiesByCode.putIfAbsent(property.property(), property))) {
+                throw new IllegalArgumentException("Property '" + property.property() + "' is configured twice.");
+            }
+        }
+    }
+
+    public PropertyServices route(String property) {
+        PropertyServices services = this.propertiesByCode.get(property);
+
+        if (Objects.isNull(services)) {
+            throw new PropertyNotFoundException(property);
+        }
+
+        return services;
+    }
+
+    public PropertyServices defaultProperty() {
+        return this.propertiesByCode.sequencedValues().getFirst();
+    }
+
+    public SequencedCollection<PropertyServices> properties() {
+        return Collections.unmodifiableSequencedCollection(this.propertiesByCode.sequencedValues());
+    }
+}
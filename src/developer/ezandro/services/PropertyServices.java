@@ -0,0 +1,22 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.metrics.ServiceMetrics;
+
+/**
+ * The services of one property (hotel), backed by repositories and indexes of its own, and
+ * the permits its requests in flight hold, with the latencies and outcomes of their operations.
+ */
+public record PropertyServices(
+        String property,
+        RoomService roomService,
+        GuestService guestService,
+        BookingService bookingService,
+        BookingArchiveService bookingArchiveService,
+        AvailabilityService availabilityService,
+        AnalyticsService analyticsService,
+        GuestDeduplicationService guestDeduplicationService,
+        ReplicationService replicationService,
+        ServiceMetrics metrics,
+        Semaphore requestPermits) {
+}
@@ -0,0 +1,20 @@
+package developer.ezandro.services;
+
+import module java.base;
+import developer.ezandro.replication.ReplicationFollower;
+import developer.ezandro.replication.ReplicationSource;
+
+/**
+ * This node's part in replicating one property: a primary's source, a replica's follower, or neither.
+ */
+public record ReplicationService(ReplicationSource source, ReplicationFollower follower) {
+    public static final ReplicationService STANDALONE = new ReplicationService(null, null);
+
+    public boolean isPrimary() {
+        return Objects.nonNull(this.source);
+    }
+
+    public boolean isReplica() {
+        return Objects.nonNull(this.follower);
+    }
+}
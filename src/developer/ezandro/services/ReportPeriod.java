@@ -0,0 +1,21 @@
+package developer.ezandro.services;
+
+import module java.base;
+
+/**
+ * Length of the periods a report is split into. Weeks start on Monday and months on their
+ * first day; the first and last period are cut to the requested range.
+ */
+public enum ReportPeriod {
+    DAY,
+    WEEK,
+    MONTH;
+
+    LocalDate nextStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date.plusDays(1);
+            case WEEK -> date.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+            case MONTH -> date.with(TemporalAdjusters.firstDayOfNextMonth());
+        };
+    }
+}
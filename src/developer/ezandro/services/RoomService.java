@@ -3,12 +3,20 @@ package developer.ezandro.services;
 import module java.base;
 import developer.ezandro.entities.Room;
 import developer.ezandro.entities.RoomType;
+import developer.ezandro.exceptions.InvalidRequestException;
 import developer.ezandro.exceptions.RoomAlreadyExistsException;
+import developer.ezandro.metrics.ServiceMetrics;
 import developer.ezandro.repositories.RoomRepository;
 
-public record RoomService(RoomRepository roomRepository) {
-    public void addRoom(String number, int capacity, RoomType type) {
-        this.roomRepository.addRoom(new Room(number, capacity, type));
+public record RoomService(RoomRepository roomRepository, ServiceMetrics metrics) {
+    public Room addRoom(String number, int capacity, RoomType type) {
+        if (number.length() > Room.MAX_NUMBER_LENGTH) {
+            throw new InvalidRequestException("Room number must be at most " + Room.MAX_NUMBER_LENGTH + " characters.");
+        }
+
+        Room room = new Room(number, capacity, type);
+        this.roomRepository.addRoom(room);
+        return room;
     }
 
     public void validateRoomNumberAvailable(String number) {
@@ -22,7 +30,28 @@ public record RoomService(RoomRepository roomRepository) {
     }
 
     public Room findRoomById(int id) {
-        return this.roomRepository.findRoomById(id);
+        long start = System.nanoTime();
+
+        try {
+            Room room = this.roomRepository.findRoomById(id);
+            this.metrics.findRoomById().completed(start);
+            return room;
+        } catch (RuntimeException e) {
+            this.metrics.findRoomById().failed(start, e);
+            throw e;
+        }
+    }
+
+    public Stream<Room> streamRooms(int afterId) {
+        return this.roomRepository.streamRooms(afterId);
+    }
+
+    public Page<Room> listRooms(int afterId, int pageSize) {
+        return Page.of(this.streamRooms(afterId), pageSize, Room::id);
+    }
+
+    public int countRooms() {
+        return this.roomRepository.countRooms();
     }
 
     public List<Room> getAllRooms() {
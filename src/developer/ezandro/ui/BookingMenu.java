@@ -2,13 +2,16 @@ package developer.ezandro.ui;
 
 import module java.base;
 import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
 import developer.ezandro.exceptions.*;
 import developer.ezandro.services.BookingService;
 import developer.ezandro.services.GuestService;
+import developer.ezandro.services.Page;
 import developer.ezandro.services.RoomService;
 
 public class BookingMenu {
-    private static final String INVALID_OPTION = "ERROR: Invalid option. Please enter a number between 1 and 4.";
+    private static final String INVALID_OPTION = "ERROR: Invalid option. Please enter a number between 1 and 6.";
+    private static final int PAGE_SIZE = 50;
 
     /**
      * Regex para validar datas no formato YYYY-MM-DD.
@@ -57,6 +60,10 @@ public class BookingMenu {
                             this.listBookings();
                     case 3 ->
                             this.findBookingById();
+                    case 4 ->
+                            this.rescheduleBooking();
+                    case 5 ->
+                            this.cancelBooking();
                     default -> {
                         return;
                     }
@@ -74,21 +81,23 @@ public class BookingMenu {
                 1. Add new booking
                 2. List all bookings
                 3. Find booking by ID
-                4. Back
+                4. Change booking dates
+                5. Cancel booking
+                6. Back
                 
                 Choose an option:\s""");
     }
 
     private boolean isValidOption(String input) {
         if (input.isEmpty()) {
-            IO.println("ERROR: Option cannot be empty. Please enter a number between 1 and 4.");
+            IO.println("ERROR: Option cannot be empty. Please enter a number between 1 and 6.");
             return false;
         }
 
         try {
             int option = Integer.parseInt(input);
 
-            if (option < 1 || option > 4) {
+            if (option < 1 || option > 6) {
                 IO.println(INVALID_OPTION);
                 return false;
             }
@@ -132,6 +141,58 @@ public class BookingMenu {
         }
     }
 
+    private void rescheduleBooking() {
+        if (this.hasNoBookings()) {
+            return;
+        }
+
+        Booking booking = this.validateBookingId("\n=== Change Booking Dates ===");
+        TablePrinter table = this.bookingTable("\n=== Current Booking ===");
+        this.printBooking(table, booking);
+        table.flush();
+
+        LocalDate checkInDate = this.readDate(
+                "Enter new check-in date (YYYY-MM-DD): ",
+                "ERROR: Check-In Date must not be empty."
+        );
+
+        LocalDate checkOutDate = this.readDate(
+                "Enter new check-out date (YYYY-MM-DD): ",
+                "ERROR: Check-Out Date must not be empty."
+        );
+
+        try {
+            this.bookingService.rescheduleBooking(booking.id(), checkInDate, checkOutDate);
+            IO.println("\nSUCCESS: Booking dates changed successfully.");
+        } catch (InvalidBookingDateRangeException | RoomAlreadyBookedException | BookingNotFoundException e) {
+            IO.println(e.getMessage());
+        }
+    }
+
+    private void cancelBooking() {
+        if (this.hasNoBookings()) {
+            return;
+        }
+
+        Booking booking = this.validateBookingId("\n=== Cancel Booking ===");
+        TablePrinter table = this.bookingTable("\n=== Booking to Cancel ===");
+        this.printBooking(table, booking);
+        table.flush();
+
+        IO.print("Cancel this booking? (y/n): ");
+        if (!this.scanner.nextLine().trim().equalsIgnoreCase("y")) {
+            IO.println("\nINFO: Booking kept.");
+            return;
+        }
+
+        try {
+            this.bookingService.cancelBooking(booking.id());
+            IO.println("\nSUCCESS: Booking cancelled successfully.");
+        } catch (BookingNotFoundException e) {
+            IO.println(e.getMessage());
+        }
+    }
+
     private Integer readRoomId() {
         while (true) {
             try {
@@ -228,7 +289,7 @@ public class BookingMenu {
     }
 
     private boolean hasNoBookings() {
-        if (this.bookingService.getAllBookings().isEmpty()) {
+        if (this.bookingService.countBookings() == 0) {
             IO.println("\nINFO: No bookings found. Please register a booking first (option [1])");
             return true;
         }
@@ -236,34 +297,84 @@ public class BookingMenu {
     }
 
     private void displayListBookings() {
-        List<Booking> bookings = this.bookingService.getAllBookings();
-
-        IO.println("\n=== List of Bookings ===");
-        System.out.printf("%-4s | %-8s | %-15s | %-20s | %-12s | %-12s%n",
-                "ID", "Room", "Room Type", "Guest", "Check-in", "Check-out");
-        IO.println("---------------------------------------------------------------------------------------------");
-
-        for (Booking booking : bookings) {
-            System.out.printf("%-4s | %-8s | %-15s | %-20s | %-12s | %-12s%n",
-                    booking.id(),
-                    booking.room().number(),
-                    booking.room().roomType(),
-                    booking.guest().name(),
-                    booking.checkInDate(),
-                    booking.checkOutDate()
-            );
+        BookingFilter filter = this.readBookingFilter();
+        TablePrinter table = this.bookingTable("\n=== List of Bookings ===");
+        int afterId = 0;
+
+        while (true) {
+            Page<Booking> page = this.bookingService.listBookings(filter, afterId, PAGE_SIZE);
+            page.items().forEach(booking -> this.printBooking(table, booking));
+            table.flush();
+
+            if (!page.hasNext() || !TablePrinter.askForNextPage(this.scanner)) {
+                return;
+            }
+
+            afterId = page.nextAfterId().getAsInt();
+        }
+    }
+
+    private BookingFilter readBookingFilter() {
+        IO.println("\n=== Filter Bookings (leave blank to skip) ===");
+        return new BookingFilter(
+                this.readOptionalId("Room ID: "),
+                this.readOptionalId("Guest ID: "),
+                this.readOptionalDate("Staying on or after (YYYY-MM-DD): "),
+                this.readOptionalDate("Staying before (YYYY-MM-DD): ")
+        );
+    }
+
+    private Integer readOptionalId(String prompt) {
+        while (true) {
+            IO.print(prompt);
+            String input = this.scanner.nextLine().trim();
+
+            if (input.isEmpty()) {
+                return null;
+            }
+
+            try {
+                return Integer.parseInt(input);
+            } catch (NumberFormatException _) {
+                IO.println("ERROR: ID must be a valid integer.");
+            }
+        }
+    }
+
+    private LocalDate readOptionalDate(String prompt) {
+        while (true) {
+            IO.print(prompt);
+            String input = this.scanner.nextLine().trim();
+
+            if (input.isEmpty()) {
+                return null;
+            }
+
+            try {
+                return LocalDate.parse(input);
+            } catch (DateTimeParseException _) {
+                IO.println("ERROR: Invalid date. Please use YYYY-MM-DD.");
+            }
         }
     }
 
     private void displayBookingDetails() {
-        Booking booking = this.validateBookingId();
+        Booking booking = this.validateBookingId("\n=== Find Booking by ID ===");
+
+        TablePrinter table = this.bookingTable("\n=== Booking Details ===");
+        this.printBooking(table, booking);
+        table.flush();
+    }
 
-        IO.println("\n=== Booking Details ===");
-        System.out.printf("%-4s | %-8s | %-15s | %-20s | %-12s | %-12s%n",
-                "ID", "Room", "Room Type", "Guest", "Check-in", "Check-out");
-        IO.println("---------------------------------------------------------------------------------------------");
+    private TablePrinter bookingTable(String title) {
+        IO.println(title);
+        TablePrinter table = new TablePrinter(4, 8, 15, 20, 12, 12);
+        table.printHeader("ID", "Room", "Room Type", "Guest", "Check-in", "Check-out");
+        return table;
+    }
 
-        System.out.printf("%-4s | %-8s | %-15s | %-20s | %-12s | %-12s%n",
+    private void printBooking(TablePrinter table, Booking booking) {
+        table.printRow(
                 booking.id(),
                 booking.room().number(),
                 booking.room().roomType(),
@@ -273,10 +384,10 @@ public class BookingMenu {
         );
     }
 
-    private Booking validateBookingId() {
+    private Booking validateBookingId(String title) {
         Booking booking;
 
-        IO.println("\n=== Find Booking by ID ===");
+        IO.println(title);
         while (true) {
             try {
                 IO.print("Enter booking ID: ");
@@ -3,16 +3,22 @@ package developer.ezandro.ui;
 import module java.base;
 import developer.ezandro.entities.Guest;
 import developer.ezandro.exceptions.GuestNotFoundException;
+import developer.ezandro.services.GuestDeduplicationService;
 import developer.ezandro.services.GuestService;
+import developer.ezandro.services.Page;
 
 public class GuestMenu {
-    private static final String INVALID_OPTION = "ERROR: Invalid option. Please enter a number between 1 and 4.";
+    private static final String INVALID_OPTION = "ERROR: Invalid option. Please enter a number between 1 and 6.";
+    private static final int PAGE_SIZE = 50;
+    private static final int SEARCH_RESULTS = 20;
 
     private final GuestService guestService;
+    private final GuestDeduplicationService guestDeduplicationService;
     private final Scanner scanner;
 
-    public GuestMenu(GuestService guestService, Scanner scanner) {
+    public GuestMenu(GuestService guestService, GuestDeduplicationService guestDeduplicationService, Scanner scanner) {
         this.guestService = guestService;
+        this.guestDeduplicationService = guestDeduplicationService;
         this.scanner = scanner;
     }
 
@@ -40,6 +46,10 @@ public class GuestMenu {
                             this.listGuests();
                     case 3 ->
                             this.findGuestById();
+                    case 4 ->
+                            this.searchGuestsByName();
+                    case 5 ->
+                            this.mergeDuplicateGuests();
                     default -> {
                         return;
                     }
@@ -57,21 +67,23 @@ public class GuestMenu {
                 1. Add new guest
                 2. List all guests
                 3. Find guest by ID
-                4. Back
+                4. Search guests by name
+                5. Merge duplicate guests
+                6. Back
                 
                 Choose an option: \s""");
     }
 
     private boolean isValidOption(String input) {
         if (input.isEmpty()) {
-            IO.println("ERROR: Option cannot be empty. Please enter a number between 1 and 4.");
+            IO.println("ERROR: Option cannot be empty. Please enter a number between 1 and 6.");
             return false;
         }
 
         try {
             int option = Integer.parseInt(input);
 
-            if (option < 1 || option > 4) {
+            if (option < 1 || option > 6) {
                 IO.println(INVALID_OPTION);
                 return false;
             }
@@ -88,10 +100,29 @@ public class GuestMenu {
         IO.println("=== Add New Guest ===");
         String name = this.validateGuestName();
         String email = this.validateGuestEmail();
+
+        Optional<Guest> existingGuest = this.guestService.findGuestByEmail(email);
+        if (existingGuest.isPresent()) {
+            IO.println("\nINFO: A guest with this email is already registered with ID " + existingGuest.get().id() + ".");
+            return;
+        }
+
         this.guestService.addGuest(name, email);
         IO.println("\nSUCCESS: Guest added successfully.");
     }
 
+    private void mergeDuplicateGuests() {
+        GuestDeduplicationService.Result result = this.guestDeduplicationService.mergeDuplicateGuests();
+
+        if (result.mergedGuests() == 0) {
+            IO.println("\nINFO: No duplicate guests found.");
+            return;
+        }
+
+        IO.println(String.format("%nSUCCESS: Merged %d duplicate guests and moved %d bookings.",
+                result.mergedGuests(), result.movedBookings()));
+    }
+
     private void listGuests() {
         if (this.hasNoGuests()) {
             return;
@@ -108,6 +139,25 @@ public class GuestMenu {
         this.displayGuestDetails();
     }
 
+    private void searchGuestsByName() {
+        if (this.hasNoGuests()) {
+            return;
+        }
+
+        IO.println("\n=== Search Guests by Name ===");
+        String query = this.validateSearchQuery();
+        List<Guest> guests = this.guestService.searchGuestsByName(query, SEARCH_RESULTS);
+
+        if (guests.isEmpty()) {
+            IO.println("\nINFO: No guests match '" + query + "'.");
+            return;
+        }
+
+        TablePrinter table = this.guestTable("\n=== Matching Guests ===");
+        guests.forEach(guest -> this.printGuest(table, guest));
+        table.flush();
+    }
+
     private String validateGuestName() {
         while (true) {
             IO.print("Enter full name: ");
@@ -117,10 +167,28 @@ public class GuestMenu {
                 IO.println("ERROR: Full name must not be empty.");
                 continue;
             }
+
+            if (name.length() > Guest.MAX_NAME_LENGTH) {
+                IO.println("ERROR: Full name must be at most " + Guest.MAX_NAME_LENGTH + " characters.");
+                continue;
+            }
             return name;
         }
     }
 
+    private String validateSearchQuery() {
+        while (true) {
+            IO.print("Enter name or part of it: ");
+            String query = this.scanner.nextLine().trim();
+
+            if (query.isEmpty()) {
+                IO.println("ERROR: Name must not be empty.");
+                continue;
+            }
+            return query;
+        }
+    }
+
     private String validateGuestEmail() {
         String email = "";
         boolean hasError = true;
@@ -133,6 +201,8 @@ public class GuestMenu {
                 IO.println("ERROR: Email must not be empty.");
             } else if (!email.matches(".+@.+")) {
                 IO.println("ERROR: Email must have content before and after '@'.");
+            } else if (email.length() > Guest.MAX_EMAIL_LENGTH) {
+                IO.println("ERROR: Email must be at most " + Guest.MAX_EMAIL_LENGTH + " characters.");
             } else {
                 hasError = false;
             }
@@ -141,7 +211,7 @@ public class GuestMenu {
     }
 
     private boolean hasNoGuests() {
-        if (this.guestService.getAllGuests().isEmpty()) {
+        if (this.guestService.countGuests() == 0) {
             IO.println("\nINFO: No guests found. Please register a guest first (option [1])");
             return true;
         }
@@ -149,35 +219,39 @@ public class GuestMenu {
     }
 
     private void displayListGuests() {
-        List<Guest> guests = this.guestService.getAllGuests();
-
-        IO.println("\n=== List of Guests ===");
-        System.out.printf("%-4s | %-20s | %-25s%n",
-                "ID", "Name", "Email");
-        IO.println("------------------------------------------------------");
-
-        for (Guest guest : guests) {
-            System.out.printf("%-4d | %-20s | %-25s%n",
-                    guest.id(),
-                    guest.name(),
-                    guest.email()
-            );
+        TablePrinter table = this.guestTable("\n=== List of Guests ===");
+        int afterId = 0;
+
+        while (true) {
+            Page<Guest> page = this.guestService.listGuests(afterId, PAGE_SIZE);
+            page.items().forEach(guest -> this.printGuest(table, guest));
+            table.flush();
+
+            if (!page.hasNext() || !TablePrinter.askForNextPage(this.scanner)) {
+                return;
+            }
+
+            afterId = page.nextAfterId().getAsInt();
         }
     }
 
     private void displayGuestDetails() {
         Guest guest = this.validateGuestId();
 
-        IO.println("\n=== Guest Details ===");
-        System.out.printf("%-4s | %-20s | %-25s%n",
-                "ID", "Name", "Email");
-        IO.println("------------------------------------------------------");
+        TablePrinter table = this.guestTable("\n=== Guest Details ===");
+        this.printGuest(table, guest);
+        table.flush();
+    }
+
+    private TablePrinter guestTable(String title) {
+        IO.println(title);
+        TablePrinter table = new TablePrinter(4, 20, 25);
+        table.printHeader("ID", "Name", "Email");
+        return table;
+    }
 
-        System.out.printf("%-4d | %-20s | %-25s%n",
-                guest.id(),
-                guest.name(),
-                guest.email()
-        );
+    private void printGuest(TablePrinter table, Guest guest) {
+        table.printRow(guest.id(), guest.name(), guest.email());
     }
 
     private Guest validateGuestId() {
@@ -2,6 +2,7 @@ package developer.ezandro.ui;
 
 import module java.base;
 import developer.ezandro.services.BookingService;
+import developer.ezandro.services.GuestDeduplicationService;
 import developer.ezandro.services.GuestService;
 import developer.ezandro.services.RoomService;
 
@@ -13,9 +14,13 @@ public class MainMenu {
     private final BookingMenu bookingMenu;
     private final Scanner scanner = new Scanner(System.in);
 
-    public MainMenu(RoomService roomService, GuestService guestService, BookingService bookingService) {
+    public MainMenu(
+            RoomService roomService,
+            GuestService guestService,
+            BookingService bookingService,
+            GuestDeduplicationService guestDeduplicationService) {
         this.roomMenu = new RoomMenu(roomService, this.scanner);
-        this.guestMenu = new GuestMenu(guestService, this.scanner);
+        this.guestMenu = new GuestMenu(guestService, guestDeduplicationService, this.scanner);
         this.bookingMenu = new BookingMenu(bookingService, roomService, guestService, this.scanner);
     }
 
@@ -6,10 +6,12 @@ import developer.ezandro.entities.RoomType;
 import developer.ezandro.exceptions.RoomAlreadyExistsException;
 import developer.ezandro.exceptions.RoomNotFoundException;
 import developer.ezandro.exceptions.RoomTypeNotFoundException;
+import developer.ezandro.services.Page;
 import developer.ezandro.services.RoomService;
 
 public record RoomMenu(RoomService roomService, Scanner scanner) {
     private static final String INVALID_OPTION = "ERROR: Invalid option. Please enter a number between 1 and 4.";
+    private static final int PAGE_SIZE = 50;
 
     public void handleRoomsMenu() {
         this.start();
@@ -115,6 +117,11 @@ public record RoomMenu(RoomService roomService, Scanner scanner) {
                     continue;
                 }
 
+                if (number.length() > Room.MAX_NUMBER_LENGTH) {
+                    IO.println("ERROR: Room number must be at most " + Room.MAX_NUMBER_LENGTH + " characters.");
+                    continue;
+                }
+
                 this.roomService.validateRoomNumberAvailable(number);
                 return number;
 
@@ -179,7 +186,7 @@ public record RoomMenu(RoomService roomService, Scanner scanner) {
     }
 
     private boolean hasNoRooms() {
-        if (this.roomService.getAllRooms().isEmpty()) {
+        if (this.roomService.countRooms() == 0) {
             IO.println("\nINFO: No rooms found. Please register a room first (option [1])");
             return true;
         }
@@ -187,37 +194,39 @@ public record RoomMenu(RoomService roomService, Scanner scanner) {
     }
 
     private void displayListRooms() {
-        List<Room> rooms = this.roomService.getAllRooms();
-
-        IO.println("\n=== List of Rooms ===");
-        System.out.printf("%-4s | %-6s | %-8s | %-10s%n",
-                "ID", "Room", "Capacity", "Type");
-        IO.println("------------------------------------");
-
-        for (Room room : rooms) {
-            System.out.printf("%-4d | %-6s | %-8d | %-10s%n",
-                    room.id(),
-                    room.number(),
-                    room.capacity(),
-                    room.roomType()
-            );
+        TablePrinter table = this.roomTable("\n=== List of Rooms ===");
+        int afterId = 0;
+
+        while (true) {
+            Page<Room> page = this.roomService.listRooms(afterId, PAGE_SIZE);
+            page.items().forEach(room -> this.printRoom(table, room));
+            table.flush();
+
+            if (!page.hasNext() || !TablePrinter.askForNextPage(this.scanner)) {
+                return;
+            }
+
+            afterId = page.nextAfterId().getAsInt();
         }
     }
 
     private void displayRoomDetails() {
         Room room = this.validateRoomId();
 
-        IO.println("\n=== Room Details ===");
-        System.out.printf("%-4s | %-6s | %-8s | %-10s%n",
-                "ID", "Room", "Capacity", "Type");
-        IO.println("------------------------------------");
-
-        System.out.printf("%-4d | %-6s | %-8d | %-10s%n",
-                room.id(),
-                room.number(),
-                room.capacity(),
-                room.roomType()
-        );
+        TablePrinter table = this.roomTable("\n=== Room Details ===");
+        this.printRoom(table, room);
+        table.flush();
+    }
+
+    private TablePrinter roomTable(String title) {
+        IO.println(title);
+        TablePrinter table = new TablePrinter(4, 6, 8, 10);
+        table.printHeader("ID", "Room", "Capacity", "Type");
+        return table;
+    }
+
+    private void printRoom(TablePrinter table, Room room) {
+        table.printRow(room.id(), room.number(), room.capacity(), room.roomType());
     }
 
     private Room validateRoomId() {
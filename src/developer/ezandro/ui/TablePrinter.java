@@ -0,0 +1,64 @@
+package developer.ezandro.ui;
+
+import module java.base;
+
+/**
+ * Prints fixed-width table rows through one buffered writer, padding cells by hand instead
+ * of parsing a format string per row. Output reaches the console on {@link #flush()}.
+ */
+final class TablePrinter {
+    private static final String COLUMN_SEPARATOR = " | ";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PrintWriter out = new PrintWriter(new BufferedWriter(
+            new OutputStreamWriter(System.out, System.out.charset()), BUFFER_SIZE));
+    private final int[] widths;
+    private final StringBuilder row = new StringBuilder(128);
+
+    TablePrinter(int... widths) {
+        this.widths = widths;
+    }
+
+    void printHeader(String... titles) {
+        this.printRow((Object[]) titles);
+        int width = (this.widths.length - 1) * COLUMN_SEPARATOR.length();
+        for (int columnWidth : this.widths) {
+            width += columnWidth;
+        }
+        this.out.println("-".repeat(width));
+    }
+
+    void printRow(Object... cells) {
+        this.row.setLength(0);
+
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                this.row.append(COLUMN_SEPARATOR);
+            }
+
+            int start = this.row.length();
+            this.row.append(cells[i]);
+
+            if (i < cells.length - 1) {
+                int padding = this.widths[i] - (this.row.length() - start);
+                for (int j = 0; j < padding; j++) {
+                    this.row.append(' ');
+                }
+            }
+        }
+
+        this.out.println(this.row);
+    }
+
+    void flush() {
+        this.out.flush();
+    }
+
+    /**
+     * Asks whether to print the next page; anything but 'q' continues.
+     */
+    static boolean askForNextPage(Scanner scanner) {
+        IO.print("-- Press Enter for the next page or 'q' to stop: ");
+        return !scanner.nextLine().trim().equalsIgnoreCase("q");
+    }
+}
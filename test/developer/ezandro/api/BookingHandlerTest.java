@@ -0,0 +1,34 @@
+package developer.ezandro.api;
+
+import module java.base;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookingHandlerTest {
+    private InProcessServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        this.server = new InProcessServer(Map.of("/bookings", new BookingHandler(null, null)));
+    }
+
+    @AfterEach
+    void stopServer() {
+        this.server.close();
+    }
+
+    @Test
+    void answersPostToUnknownPathWith404() throws Exception {
+        assertEquals(404, this.server.status("POST", "/bookings/nightly"));
+        assertEquals(404, this.server.status("POST", "/bookings/archive"));
+    }
+
+    @Test
+    void answersUnsupportedMethodWith405() throws Exception {
+        assertEquals(405, this.server.status("PUT", "/bookings"));
+        assertEquals(405, this.server.status("DELETE", "/bookings"));
+    }
+}
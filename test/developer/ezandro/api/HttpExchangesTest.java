@@ -0,0 +1,50 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module java.net.http;
+import module jdk.httpserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpExchangesTest {
+    private InProcessServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        HttpHandler failing = exchange -> HttpExchanges.respond(exchange, _ -> {
+            throw new IllegalStateException("unexpected");
+        });
+        this.server = new InProcessServer(Map.of(
+                "/failing", failing,
+                "/availability", new AvailabilityHandler(null)
+        ));
+    }
+
+    @AfterEach
+    void stopServer() {
+        this.server.close();
+    }
+
+    @Test
+    void answersUnexpectedFailureWith500() throws Exception {
+        HttpResponse<String> response = this.server.send("GET", "/failing");
+
+        assertEquals(500, response.statusCode());
+        assertEquals("{\"error\":\"Internal server error.\"}", response.body());
+    }
+
+    @Test
+    void answersUnknownAvailabilityPathWith404() throws Exception {
+        assertEquals(404, this.server.status("GET", "/availability/weekly"));
+        assertEquals(404, this.server.status("POST", "/availability/weekly"));
+    }
+
+    @Test
+    void answersUnsupportedAvailabilityMethodWith405() throws Exception {
+        assertEquals(405, this.server.status("POST", "/availability"));
+        assertEquals(405, this.server.status("DELETE", "/availability/daily"));
+    }
+}
@@ -0,0 +1,34 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module java.net.http;
+import module jdk.httpserver;
+
+/**
+ * Serves the given handlers on a loopback port picked by the system.
+ */
+final class InProcessServer implements AutoCloseable {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final HttpServer server;
+
+    InProcessServer(Map<String, HttpHandler> handlersByPath) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        handlersByPath.forEach(this.server::createContext);
+        this.server.start();
+    }
+
+    HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        URI uri = URI.create("http://localhost:" + this.server.getAddress().getPort() + path);
+        HttpRequest request = HttpRequest.newBuilder(uri).method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    int status(String method, String path) throws IOException, InterruptedException {
+        return this.send(method, path).statusCode();
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+}
@@ -0,0 +1,60 @@
+package developer.ezandro.api;
+
+import module java.base;
+import module java.net.http;
+import developer.ezandro.metrics.ServiceMetrics;
+import developer.ezandro.replication.ReplicationFollower;
+import developer.ezandro.services.PropertyRouter;
+import developer.ezandro.services.PropertyServices;
+import developer.ezandro.services.ReplicationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsHandlerTest {
+    private InProcessServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        this.server = new InProcessServer(Map.of("/metrics", new MetricsHandler(null)));
+    }
+
+    @AfterEach
+    void stopServer() {
+        this.server.close();
+    }
+
+    @Test
+    void answersUnknownPathWith404() throws Exception {
+        assertEquals(404, this.server.status("GET", "/metrics/jvm"));
+        assertEquals(404, this.server.status("POST", "/metrics/jvm"));
+    }
+
+    @Test
+    void answersOtherMethodsThanGetWith405() throws Exception {
+        assertEquals(405, this.server.status("POST", "/metrics"));
+        assertEquals(405, this.server.status("DELETE", "/metrics"));
+    }
+
+    @Test
+    void reportsReplicaLagAsGauges() throws Exception {
+        InetSocketAddress primary = new InetSocketAddress(InetAddress.getLoopbackAddress(), 1);
+        ReplicationFollower follower = new ReplicationFollower("porto", primary, null, 5_000);
+        PropertyServices property = new PropertyServices("porto", null, null, null, null, null, null, null,
+                new ReplicationService(null, follower), new ServiceMetrics(), new Semaphore(1));
+
+        MetricsHandler handler = new MetricsHandler(new PropertyRouter(List.of(property)));
+
+        try (InProcessServer replica = new InProcessServer(Map.of("/metrics", handler))) {
+            HttpResponse<String> response = replica.send("GET", "/metrics");
+
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains("hotel_replication_lag_bytes{property=\"porto\"} 0\n"));
+            assertTrue(response.body().contains("hotel_replication_lag_seconds{property=\"porto\"} "));
+            assertTrue(response.body().contains("hotel_replication_connected{property=\"porto\"} 0\n"));
+        }
+    }
+}
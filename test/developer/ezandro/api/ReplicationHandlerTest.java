@@ -0,0 +1,34 @@
+package developer.ezandro.api;
+
+import module java.base;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicationHandlerTest {
+    private InProcessServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        this.server = new InProcessServer(Map.of("/replication", new ReplicationHandler(null)));
+    }
+
+    @AfterEach
+    void stopServer() {
+        this.server.close();
+    }
+
+    @Test
+    void answersUnknownPathWith404() throws Exception {
+        assertEquals(404, this.server.status("GET", "/replication/daily"));
+        assertEquals(404, this.server.status("POST", "/replication/daily"));
+    }
+
+    @Test
+    void answersOtherMethodsThanGetWith405() throws Exception {
+        assertEquals(405, this.server.status("POST", "/replication"));
+        assertEquals(405, this.server.status("DELETE", "/replication"));
+    }
+}
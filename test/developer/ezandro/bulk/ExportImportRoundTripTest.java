@@ -0,0 +1,88 @@
+package developer.ezandro.bulk;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.persistence.BookingArchive;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * An export loads back through the importer into a hotel with the same rooms and guests.
+ */
+class ExportImportRoundTripTest {
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2030, 6, 1);
+    private static final LocalDate FIRST_ARCHIVED_NIGHT = LocalDate.of(2020, 3, 1);
+
+    @TempDir
+    Path directory;
+
+    private final Room room = new Room("1001", 2, RoomType.DOUBLE);
+    private final Guest guest = new Guest("Ana Souza", "ana@example.com");
+    private final RoomRepository roomRepository = new RoomRepository();
+    private final BookingRepository source = new BookingRepository();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bookings.csv", "bookings.bin"})
+    void importsExportedBookings(String fileName) {
+        this.book(FIRST_ARCHIVED_NIGHT);
+        this.book(FIRST_NIGHT);
+        BookingArchive archive = this.archiveBefore(FIRST_NIGHT);
+
+        Path file = this.directory.resolve(fileName);
+        assertEquals(20, new BulkExporter(this.source, archive, 2).exportBookings(file, null, null));
+
+        GuestRepository guestRepository = new GuestRepository();
+        BookingRepository target = new BookingRepository();
+        guestRepository.addGuest(this.guest);
+
+        assertEquals(20, new BulkImporter(this.roomRepository, guestRepository, target, 2).importBookings(file));
+        assertEquals(stays(archive.readBookings(YearMonth.from(FIRST_ARCHIVED_NIGHT)), this.source.getAllBookings()),
+                stays(target.getAllBookings(), List.of()));
+    }
+
+    @Test
+    void exportsOnlyArchivedMonthsOverlappingTheRange() {
+        this.book(FIRST_ARCHIVED_NIGHT);
+        this.book(FIRST_ARCHIVED_NIGHT.plusMonths(2));
+        BookingArchive archive = this.archiveBefore(FIRST_NIGHT);
+
+        LocalDate from = FIRST_ARCHIVED_NIGHT.plusMonths(2).plusDays(4);
+        long exported = new BulkExporter(this.source, archive, 2)
+                .exportBookings(this.directory.resolve("bookings.csv"), from, from.plusDays(4));
+
+        assertEquals(2, exported);
+    }
+
+    /**
+     * Books ten two-night stays, one every three nights from {@code firstNight}.
+     */
+    private void book(LocalDate firstNight) {
+        for (int night = 0; night < 30; night += 3) {
+            this.source.addBooking(new Booking(this.room, this.guest, firstNight.plusDays(night), firstNight.plusDays(night + 2)));
+        }
+    }
+
+    private BookingArchive archiveBefore(LocalDate night) {
+        this.roomRepository.addRoom(this.room);
+        BookingArchive archive = new BookingArchive(this.directory.resolve("archive"), this.roomRepository);
+        this.source.archiveBookingsCheckingOutBefore(YearMonth.from(night), archive);
+        return archive;
+    }
+
+    private static List<String> stays(List<Booking> archivedBookings, List<Booking> bookings) {
+        return Stream.concat(archivedBookings.stream(), bookings.stream())
+                .map(booking -> booking.room().id() + "/" + booking.guest().id() + "/" + booking.checkInDate() + "/" + booking.checkOutDate())
+                .sorted()
+                .toList();
+    }
+}
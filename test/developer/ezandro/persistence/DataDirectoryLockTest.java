@@ -0,0 +1,22 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.exceptions.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DataDirectoryLockTest {
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    void refusesDirectoryInUseUntilReleased() {
+        try (DataDirectoryLock _ = DataDirectoryLock.acquire(this.dataDirectory)) {
+            assertThrows(PersistenceException.class, () -> DataDirectoryLock.acquire(this.dataDirectory));
+        }
+
+        DataDirectoryLock.acquire(this.dataDirectory).close();
+    }
+}
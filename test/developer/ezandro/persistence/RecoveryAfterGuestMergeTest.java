@@ -0,0 +1,129 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+import developer.ezandro.services.GuestDeduplicationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * A checkpoint reads the live repositories after it has switched the log to a new segment,
+ * so its snapshot can already hold the result of a guest merge whose bookings and removal
+ * are replayed again from the kept segment. Recovery must end with the bookings on the
+ * remaining guest either way.
+ */
+class RecoveryAfterGuestMergeTest {
+    private static final LocalDate CHECK_IN = LocalDate.of(2030, 3, 1);
+
+    @TempDir
+    Path dataDirectory;
+
+    private final LogApplier repositories = newRepositories();
+    private final Room room = new Room("701", 2, RoomType.DOUBLE);
+    private final Guest survivor = new Guest("Ana Souza", "ana@example.com");
+    private final Guest duplicate = new Guest("Ana S.", "ANA@example.com");
+    private long firstKeptSegment;
+
+    @Test
+    void replaysBookingOfMergedGuestOverSnapshotTakenAfterTheMerge() {
+        Booking booking;
+
+        try (WriteAheadLog _ = this.openLog()) {
+            booking = this.bookForDuplicate();
+            this.mergeDuplicates();
+            this.writeSnapshot(this.repositories.bookingRepository().getAllBookings());
+        }
+
+        this.assertRecoveredOnSurvivor(booking);
+    }
+
+    @Test
+    void replaysBookingMissedByTheSnapshotWhoseGuestWasMergedAway() {
+        Booking booking;
+
+        try (WriteAheadLog _ = this.openLog()) {
+            List<Booking> bookingsReadFirst = this.repositories.bookingRepository().getAllBookings();
+            booking = this.bookForDuplicate();
+            this.mergeDuplicates();
+            this.writeSnapshot(bookingsReadFirst);
+        }
+
+        this.assertRecoveredOnSurvivor(booking);
+    }
+
+    /**
+     * Logs a room and two guests sharing an email, then switches to a new log segment as a
+     * checkpoint does.
+     */
+    private WriteAheadLog openLog() {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(this.dataDirectory.resolve("wal"), 1);
+        this.repositories.roomRepository().addListener(writeAheadLog);
+        this.repositories.guestRepository().addListener(writeAheadLog);
+        this.repositories.bookingRepository().addListener(writeAheadLog);
+
+        this.repositories.roomRepository().addRoom(this.room);
+        this.repositories.guestRepository().addGuest(this.survivor);
+        this.repositories.guestRepository().addGuest(this.duplicate);
+        this.firstKeptSegment = writeAheadLog.rotate();
+        return writeAheadLog;
+    }
+
+    private Booking bookForDuplicate() {
+        Booking booking = new Booking(this.room, this.duplicate, CHECK_IN, CHECK_IN.plusDays(2));
+        this.repositories.bookingRepository().addBooking(booking);
+        return booking;
+    }
+
+    private void mergeDuplicates() {
+        GuestDeduplicationService deduplicationService = new GuestDeduplicationService(
+                this.repositories.guestRepository(),
+                this.repositories.bookingRepository()
+        );
+
+        assertEquals(1, deduplicationService.mergeDuplicateGuests().mergedGuests());
+    }
+
+    /**
+     * Writes the snapshot as a checkpoint does, from the given bookings and the guests and
+     * rooms read after them.
+     */
+    private void writeSnapshot(List<Booking> bookings) {
+        this.snapshotStore().write(
+                bookings,
+                this.repositories.guestRepository().getAllGuests(),
+                this.repositories.roomRepository().getAllRooms(),
+                this.firstKeptSegment
+        );
+    }
+
+    private void assertRecoveredOnSurvivor(Booking booking) {
+        LogApplier recovered = newRepositories();
+        long firstLogSegment = this.snapshotStore().load(recovered);
+
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(this.dataDirectory.resolve("wal"), 1)) {
+            writeAheadLog.replay(recovered, firstLogSegment);
+        }
+
+        Booking recoveredBooking = recovered.bookingRepository().findBookingById(booking.id());
+        assertEquals(this.survivor, recoveredBooking.guest());
+        assertEquals(booking.checkInDate(), recoveredBooking.checkInDate());
+        assertFalse(recovered.guestRepository().existsById(this.duplicate.id()));
+    }
+
+    private SnapshotStore snapshotStore() {
+        return new SnapshotStore(this.dataDirectory.resolve("hotel.snapshot"));
+    }
+
+    private static LogApplier newRepositories() {
+        return new LogApplier(new RoomRepository(), new GuestRepository(), new BookingRepository());
+    }
+}
@@ -0,0 +1,39 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.repositories.BookingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A cancelled booking is in neither the snapshot nor the log segments it covers, so only
+ * the snapshot header keeps its id from being issued again after a restart.
+ */
+class SnapshotIdsTest {
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    void recordsIdsOfEntitiesTheSnapshotNoLongerHolds() throws IOException {
+        Room room = new Room("801", 2, RoomType.DOUBLE);
+        Guest guest = new Guest("Ana Souza", "ana@example.com");
+        BookingRepository bookingRepository = new BookingRepository();
+        Booking cancelled = new Booking(room, guest, LocalDate.of(2030, 4, 1), LocalDate.of(2030, 4, 3));
+        bookingRepository.addBooking(cancelled);
+        bookingRepository.removeBooking(cancelled.id());
+
+        Path file = this.dataDirectory.resolve("hotel.snapshot");
+        new SnapshotStore(file).write(bookingRepository.getAllBookings(), List.of(), List.of(), 1);
+
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file), 28, 12);
+        assertTrue(header.getInt() >= room.id());
+        assertTrue(header.getInt() >= guest.id());
+        assertTrue(header.getInt() >= cancelled.id());
+    }
+}
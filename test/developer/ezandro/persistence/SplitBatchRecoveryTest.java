@@ -0,0 +1,102 @@
+package developer.ezandro.persistence;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import developer.ezandro.repositories.BookingRepository;
+import developer.ezandro.repositories.GuestRepository;
+import developer.ezandro.repositories.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A batch too large for one log record is written as several; recovery must add all of
+ * it or, when a crash cut it off, none of it and drop its records from the log.
+ */
+class SplitBatchRecoveryTest {
+    private static final int BATCH_SIZE = 3 * LogRecords.MAX_BOOKINGS_PER_RECORD;
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2030, 1, 1);
+
+    @TempDir
+    Path dataDirectory;
+
+    private final LogApplier repositories = newRepositories();
+    private final Room room = new Room("801", 2, RoomType.DOUBLE);
+    private final Guest guest = new Guest("Ana Souza", "ana@example.com");
+
+    @Test
+    void replaysWholeBatch() {
+        this.logBatch();
+
+        LogApplier recovered = this.replay();
+
+        assertEquals(BATCH_SIZE, recovered.bookingRepository().getAllBookings().size());
+    }
+
+    @Test
+    void dropsBatchCutOffByACrash() throws IOException {
+        long sizeBeforeBatch = this.logBatch();
+        Path segment = this.onlySegment();
+        long sizeAfterBatch = Files.size(segment);
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate((sizeBeforeBatch + sizeAfterBatch) / 2);
+        }
+
+        LogApplier recovered = this.replay();
+
+        assertTrue(recovered.bookingRepository().getAllBookings().isEmpty());
+        assertTrue(recovered.guestRepository().existsById(this.guest.id()));
+        assertEquals(sizeBeforeBatch, Files.size(segment));
+    }
+
+    /**
+     * Logs a room, a guest and then one batch of bookings.
+     *
+     * @return the size of the log before the batch
+     */
+    private long logBatch() {
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(this.dataDirectory, 1)) {
+            this.repositories.roomRepository().addListener(writeAheadLog);
+            this.repositories.guestRepository().addListener(writeAheadLog);
+            this.repositories.bookingRepository().addListener(writeAheadLog);
+
+            this.repositories.roomRepository().addRoom(this.room);
+            this.repositories.guestRepository().addGuest(this.guest);
+            long sizeBeforeBatch = Files.size(this.onlySegment());
+
+            List<Booking> bookings = IntStream.range(0, BATCH_SIZE)
+                    .mapToObj(night -> new Booking(this.room, this.guest, FIRST_NIGHT.plusDays(night), FIRST_NIGHT.plusDays(night + 1)))
+                    .toList();
+            assertTrue(this.repositories.bookingRepository().addBookingsInBulk(bookings).isEmpty());
+            return sizeBeforeBatch;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private LogApplier replay() {
+        LogApplier recovered = newRepositories();
+
+        try (WriteAheadLog writeAheadLog = new WriteAheadLog(this.dataDirectory, 1)) {
+            writeAheadLog.replay(recovered, 0);
+        }
+
+        return recovered;
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> segments = Files.list(this.dataDirectory)) {
+            return segments.collect(Collectors.collectingAndThen(Collectors.toList(), List::getFirst));
+        }
+    }
+
+    private static LogApplier newRepositories() {
+        return new LogApplier(new RoomRepository(), new GuestRepository(), new BookingRepository());
+    }
+}
@@ -0,0 +1,128 @@
+package developer.ezandro.replication;
+
+import module java.base;
+import module java.net.http;
+import developer.ezandro.app.HotelReservationApp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs a primary and a replica as separate JVMs on localhost and checks, over their HTTP
+ * APIs, that the replica copies the primary's data, follows its changes, refuses writes,
+ * and stops serving reads once the primary has been gone for longer than the lag bound.
+ */
+class MultiJvmReplicationTest {
+    private static final String PROPERTY = "lisbon";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final long MAX_LAG_MILLIS = 1_000;
+
+    @TempDir
+    Path dataDirectory;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<Process> processes = new ArrayList<>();
+
+    @AfterEach
+    void stopProcesses() throws InterruptedException {
+        for (Process process : this.processes) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    @Test
+    void replicaFollowsPrimaryAcrossJvms() throws Exception {
+        int primaryHttpPort = freePort();
+        int replicationPort = freePort();
+        int replicaHttpPort = freePort();
+
+        Process primary = this.startNode("primary", primaryHttpPort, "-Dhotel.replication.port=" + replicationPort);
+        String primaryUrl = this.awaitReady(primaryHttpPort);
+        int roomId = this.createdId(this.send("POST", primaryUrl + "/rooms", "{\"number\":\"101\",\"capacity\":2,\"roomType\":\"DOUBLE\"}"));
+        int guestId = this.createdId(this.send("POST", primaryUrl + "/guests", "{\"name\":\"Ana\",\"email\":\"ana@example.com\"}"));
+
+        this.startNode("replica", replicaHttpPort, "-Dhotel.replication.primary=localhost:" + replicationPort);
+        String replicaUrl = this.awaitReady(replicaHttpPort);
+        this.awaitStatus(replicaUrl + "/rooms/" + roomId, 200);
+
+        int bookingId = this.createdId(this.send("POST", primaryUrl + "/bookings",
+                "{\"roomId\":" + roomId + ",\"guestId\":" + guestId + ",\"checkInDate\":\"2030-05-01\",\"checkOutDate\":\"2030-05-03\"}"));
+        this.awaitStatus(replicaUrl + "/bookings/" + bookingId, 200);
+
+        assertEquals(405, this.send("POST", replicaUrl + "/guests", "{\"name\":\"Rui\",\"email\":\"rui@example.com\"}").statusCode());
+
+        assertEquals(200, this.send("DELETE", primaryUrl + "/bookings/" + bookingId, null).statusCode());
+        this.awaitStatus(replicaUrl + "/bookings/" + bookingId, 404);
+
+        primary.destroy();
+        this.awaitStatus(replicaUrl + "/rooms/" + roomId, 503);
+    }
+
+    private Process startNode(String name, int httpPort, String replicationOption) throws IOException, URISyntaxException {
+        Path classes = Path.of(HotelReservationApp.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+
+        Process process = new ProcessBuilder(
+                java.toString(),
+                "-Dhotel.data.dir=" + this.dataDirectory.resolve(name),
+                "-Dhotel.properties=" + PROPERTY,
+                "-Dhotel.console=false",
+                "-Dhotel.http.port=" + httpPort,
+                "-Dhotel.replication.maxLagMillis=" + MAX_LAG_MILLIS,
+                replicationOption,
+                "-cp", classes.toString(),
+                HotelReservationApp.class.getName()
+        ).redirectErrorStream(true).redirectOutput(this.dataDirectory.resolve(name + ".log").toFile()).start();
+
+        this.processes.add(process);
+        return process;
+    }
+
+    private String awaitReady(int httpPort) throws Exception {
+        this.awaitStatus("http://localhost:" + httpPort + "/properties", 200);
+        return "http://localhost:" + httpPort + "/properties/" + PROPERTY;
+    }
+
+    private void awaitStatus(String url, int status) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        int lastStatus = -1;
+
+        while (System.nanoTime() < deadline) {
+            try {
+                lastStatus = this.send("GET", url, null).statusCode();
+                if (lastStatus == status) {
+                    return;
+                }
+            } catch (ConnectException _) {
+                // not listening yet
+            }
+            Thread.sleep(100);
+        }
+
+        assertEquals(status, lastStatus, "GET " + url);
+    }
+
+    private HttpResponse<String> send(String method, String url, String body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = Objects.isNull(body)
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).method(method, publisher).timeout(TIMEOUT).build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private int createdId(HttpResponse<String> response) {
+        assertTrue(response.statusCode() == 200 || response.statusCode() == 201, response::body);
+        Matcher id = Pattern.compile("^\\{\"id\":(\\d+)").matcher(response.body());
+        assertTrue(id.find(), response::body);
+        return Integer.parseInt(id.group(1));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
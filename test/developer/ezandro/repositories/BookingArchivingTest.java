@@ -0,0 +1,84 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A month is written to the archive without its rooms locked, so its bookings can change
+ * meanwhile; what is committed must still be exactly what the repository drops.
+ */
+class BookingArchivingTest {
+    private static final YearMonth MONTH = YearMonth.of(2030, 1);
+
+    private final BookingRepository bookingRepository = new BookingRepository();
+    private final Guest guest = new Guest("Ana Souza", "ana@example.com");
+    private final Room room = new Room("901", 2, RoomType.DOUBLE);
+    private final List<List<Booking>> committed = new ArrayList<>();
+
+    @Test
+    void archivesMonthPreparedWhileItsBookingsChange() {
+        Booking kept = this.book(1);
+        Booking cancelled = this.book(10);
+
+        int archived = this.bookingRepository.archiveBookingsCheckingOutBefore(MONTH.plusMonths(1), (month, bookings) -> {
+            if (bookings.contains(cancelled)) {
+                CompletableFuture.runAsync(() -> this.bookingRepository.removeBooking(cancelled.id()))
+                        .orTimeout(5, TimeUnit.SECONDS)
+                        .join();
+            }
+            return this.prepared(bookings);
+        });
+
+        assertEquals(1, archived);
+        assertEquals(List.of(List.of(kept)), this.committed);
+        assertFalse(this.bookingRepository.existsById(kept.id()));
+        assertTrue(this.bookingRepository.getAllBookings().isEmpty());
+    }
+
+    @Test
+    void leavesMonthThatKeepsChangingForTheNextRun() {
+        Booking booking = this.book(1);
+        AtomicInteger night = new AtomicInteger(2);
+
+        int archived = this.bookingRepository.archiveBookingsCheckingOutBefore(MONTH.plusMonths(1), (_, bookings) -> {
+            CompletableFuture.runAsync(() -> this.book(night.getAndAdd(2)))
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+            return this.prepared(bookings);
+        });
+
+        assertEquals(0, archived);
+        assertTrue(this.committed.isEmpty());
+        assertTrue(this.bookingRepository.existsById(booking.id()));
+    }
+
+    private Booking book(int night) {
+        LocalDate checkIn = MONTH.atDay(night);
+        Booking booking = new Booking(this.room, this.guest, checkIn, checkIn.plusDays(1));
+        assertTrue(this.bookingRepository.addBookingIfAvailable(booking));
+        return booking;
+    }
+
+    private MonthArchive.Prepared prepared(List<Booking> bookings) {
+        return new PreparedMonth(bookings, this.committed);
+    }
+
+    private record PreparedMonth(List<Booking> bookings, List<List<Booking>> committed) implements MonthArchive.Prepared {
+        @Override
+        public void commit() {
+            this.committed.add(this.bookings);
+        }
+
+        @Override
+        public void discard() {
+        }
+    }
+}
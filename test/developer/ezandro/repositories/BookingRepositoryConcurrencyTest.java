@@ -0,0 +1,96 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many threads book a handful of rooms over a short range of nights at once, singly and in
+ * batches, so most requests collide; afterwards no room may hold two overlapping stays.
+ */
+class BookingRepositoryConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20_000;
+    private static final int ROOMS = 8;
+    private static final int NIGHTS = 60;
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2030, 1, 1);
+
+    private final BookingRepository bookingRepository = new BookingRepository();
+    private final Guest guest = new Guest("Ana Souza", "ana.souza@example.com");
+    private final List<Room> rooms = IntStream.range(0, ROOMS)
+            .mapToObj(i -> new Room("S" + i, 2, RoomType.DOUBLE))
+            .toList();
+
+    @Test
+    void concurrentBookingsNeverOverlap() throws Exception {
+        AtomicInteger added = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> workers = new ArrayList<>();
+
+            for (int thread = 0; thread < THREADS; thread++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        if (random.nextInt(10) == 0) {
+                            List<Booking> batch = List.of(this.randomBooking(random), this.randomBooking(random));
+                            if (this.bookingRepository.addBookingsIfAvailable(batch).isEmpty()) {
+                                added.addAndGet(batch.size());
+                            }
+                        } else if (this.bookingRepository.addBookingIfAvailable(this.randomBooking(random))) {
+                            added.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        List<Booking> bookings = this.bookingRepository.getAllBookings();
+        assertTrue(added.get() > 0);
+        assertEquals(added.get(), bookings.size());
+
+        Map<Integer, List<Booking>> bookingsByRoom = bookings.stream()
+                .collect(Collectors.groupingBy(booking -> booking.room().id()));
+
+        bookingsByRoom.forEach((roomId, roomBookings) -> {
+            List<Booking> sorted = roomBookings.stream().sorted(Comparator.comparing(Booking::checkInDate)).toList();
+
+            for (int i = 1; i < sorted.size(); i++) {
+                Booking previous = sorted.get(i - 1);
+                Booking next = sorted.get(i);
+                assertFalse(next.checkInDate().isBefore(previous.checkOutDate()),
+                        "Room " + roomId + " is double-booked: " + previous + " and " + next);
+            }
+        });
+
+        for (int night = 0; night < NIGHTS; night++) {
+            LocalDate date = FIRST_NIGHT.plusDays(night);
+            long occupied = bookings.stream()
+                    .filter(booking -> !date.isBefore(booking.checkInDate()) && date.isBefore(booking.checkOutDate()))
+                    .count();
+            assertEquals(occupied, this.bookingRepository.countOccupiedRooms(date), "Rooms sold on " + date);
+        }
+    }
+
+    private Booking randomBooking(ThreadLocalRandom random) {
+        LocalDate checkIn = FIRST_NIGHT.plusDays(random.nextInt(NIGHTS - 3));
+        Room room = this.rooms.get(random.nextInt(ROOMS));
+        return new Booking(room, this.guest, checkIn, checkIn.plusDays(1 + random.nextInt(3)));
+    }
+}
@@ -0,0 +1,38 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A property's rooms may carry ids issued anywhere in the chain; nights only keep slots
+ * for the rooms booked in this property.
+ */
+class OccupancyIndexTest {
+    private static final LocalDate NIGHT = LocalDate.of(2030, 8, 10);
+
+    private final OccupancyIndex occupancyIndex = new OccupancyIndex();
+    private final Guest guest = new Guest(1, "Ana Souza", "ana@example.com");
+
+    @Test
+    void tellsOccupiedRoomsApartWhateverTheirIds() {
+        Room farRoom = new Room(40_000_000, "1201", 2, RoomType.DOUBLE);
+        Room nearRoom = new Room(3, "1202", 2, RoomType.DOUBLE);
+        Room freeRoom = new Room(40_000_001, "1203", 2, RoomType.DOUBLE);
+        this.occupancyIndex.occupy(new Booking(1, farRoom, this.guest, NIGHT, NIGHT.plusDays(2), 90_00));
+        this.occupancyIndex.occupy(new Booking(2, nearRoom, this.guest, NIGHT.plusDays(1), NIGHT.plusDays(3), 90_00));
+
+        IntPredicate occupied = this.occupancyIndex.occupiedRooms(NIGHT, NIGHT.plusDays(1));
+
+        assertTrue(occupied.test(farRoom.id()));
+        assertFalse(occupied.test(nearRoom.id()));
+        assertFalse(occupied.test(freeRoom.id()));
+        assertTrue(this.occupancyIndex.occupiedRooms(NIGHT.plusDays(2), NIGHT.plusDays(3)).test(nearRoom.id()));
+    }
+}
@@ -0,0 +1,105 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.BookingFilter;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A repository backed by off-heap columns serves the same bookings, stays and archive
+ * months as one holding the records.
+ */
+class OffHeapBookingStoreTest {
+    private static final LocalDate NIGHT = LocalDate.of(2030, 1, 30);
+
+    private final RoomRepository roomRepository = new RoomRepository();
+    private final GuestRepository guestRepository = new GuestRepository();
+    private final BookingRepository bookingRepository =
+            new BookingRepository(new OffHeapBookingStore(this.roomRepository, this.guestRepository));
+    private final Room room = new Room("1301", 2, RoomType.SUITE);
+    private final Room otherRoom = new Room("1302", 2, RoomType.SINGLE);
+    private final Guest guest = new Guest("Ana Souza", "ana@example.com");
+
+    OffHeapBookingStoreTest() {
+        this.roomRepository.addRoom(this.room);
+        this.roomRepository.addRoom(this.otherRoom);
+        this.guestRepository.addGuest(this.guest);
+    }
+
+    @AfterEach
+    void close() {
+        this.bookingRepository.close();
+    }
+
+    @Test
+    void servesBookingsAsViews() {
+        Booking booking = new Booking(this.room, this.guest, NIGHT, NIGHT.plusDays(3));
+        Booking other = new Booking(this.otherRoom, this.guest, NIGHT, NIGHT.plusDays(1));
+
+        assertTrue(this.bookingRepository.addBookingIfAvailable(booking));
+        assertTrue(this.bookingRepository.addBookingIfAvailable(other));
+        assertFalse(this.bookingRepository.addBookingIfAvailable(new Booking(this.room, this.guest, NIGHT.plusDays(2), NIGHT.plusDays(4))));
+
+        assertEquals(booking, this.bookingRepository.findBookingById(booking.id()));
+        assertEquals(List.of(booking, other), this.bookingRepository.getAllBookings());
+        assertEquals(List.of(booking), this.bookingRepository
+                .streamBookings(0, new BookingFilter(this.room.id(), null, NIGHT.plusDays(2), null))
+                .toList());
+        assertTrue(this.bookingRepository.hasConflictingBooking(this.room.id(), NIGHT.plusDays(2), NIGHT.plusDays(5)));
+    }
+
+    @Test
+    void movesAndRemovesBookings() {
+        Booking booking = new Booking(this.room, this.guest, NIGHT, NIGHT.plusDays(1));
+        this.bookingRepository.addBooking(booking);
+
+        Booking moved = this.bookingRepository.rescheduleBookingIfAvailable(booking.id(), NIGHT.plusDays(5), NIGHT.plusDays(7)).orElseThrow();
+
+        assertEquals(moved, this.bookingRepository.findBookingById(booking.id()));
+        assertFalse(this.bookingRepository.hasConflictingBooking(this.room.id(), NIGHT, NIGHT.plusDays(1)));
+
+        this.bookingRepository.removeBooking(booking.id());
+        Booking next = new Booking(this.otherRoom, this.guest, NIGHT, NIGHT.plusDays(1));
+        this.bookingRepository.addBooking(next);
+
+        assertFalse(this.bookingRepository.existsById(booking.id()));
+        assertEquals(List.of(next), this.bookingRepository.getAllBookings());
+        assertEquals(1, this.bookingRepository.countBookings());
+    }
+
+    @Test
+    void archivesMonthsReadFromTheColumns() {
+        Booking january = new Booking(this.room, this.guest, NIGHT, NIGHT.plusDays(1));
+        Booking february = new Booking(this.room, this.guest, NIGHT.plusDays(3), NIGHT.plusDays(4));
+        Booking march = new Booking(this.otherRoom, this.guest, NIGHT.plusDays(40), NIGHT.plusDays(41));
+        this.bookingRepository.addBookingsInBulk(List.of(january, february, march));
+        Map<YearMonth, List<Booking>> archived = new TreeMap<>();
+
+        int archivedBookings = this.bookingRepository.archiveBookingsCheckingOutBefore(YearMonth.of(2030, 3),
+                (month, bookings) -> new CommittedMonth(archived, month, bookings));
+
+        assertEquals(2, archivedBookings);
+        assertEquals(Map.of(YearMonth.of(2030, 1), List.of(january), YearMonth.of(2030, 2), List.of(february)), archived);
+        assertEquals(List.of(march), this.bookingRepository.getAllBookings());
+    }
+
+    private record CommittedMonth(Map<YearMonth, List<Booking>> archived, YearMonth month, List<Booking> bookings)
+            implements MonthArchive.Prepared {
+        @Override
+        public void commit() {
+            this.archived.put(this.month, this.bookings);
+        }
+
+        @Override
+        public void discard() {
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package developer.ezandro.repositories;
+
+import module java.base;
+import developer.ezandro.entities.Booking;
+import developer.ezandro.entities.Guest;
+import developer.ezandro.entities.Room;
+import developer.ezandro.entities.RoomType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RoomNightStatisticsTest {
+    private static final LocalDate NIGHT = LocalDate.of(2030, 4, 1);
+
+    private final RoomNightStatistics statistics = new RoomNightStatistics();
+    private final Guest guest = new Guest("Ana Souza", "ana@example.com");
+    private final Room room = new Room("1201", 2, RoomType.DOUBLE);
+
+    @Test
+    void countsRevenueAtTheRateEachBookingWasMadeAt() {
+        Booking listPrice = new Booking(this.room, this.guest, NIGHT, NIGHT.plusDays(2));
+        Booking discounted = new Booking(listPrice.id() + 1, this.room, this.guest, NIGHT.plusDays(1), NIGHT.plusDays(2), 99_00);
+
+        this.statistics.rebuild(Stream.of(listPrice));
+        this.statistics.onBookingAdded(discounted);
+
+        assertEquals(140_00, this.statistics.revenueCents(NIGHT, RoomType.DOUBLE));
+        assertEquals(140_00 + 99_00, this.statistics.revenueCents(NIGHT.plusDays(1), RoomType.DOUBLE));
+        assertEquals(2, this.statistics.soldRoomNights(NIGHT.plusDays(1), RoomType.DOUBLE));
+    }
+}